@@ -0,0 +1,129 @@
+package com.jpacommunity.board;
+
+import com.jpacommunity.JpaCommunityApplication;
+import com.jpacommunity.board.api.dto.AttachmentRequest;
+import com.jpacommunity.board.api.dto.PostCreateRequest;
+import com.jpacommunity.board.core.entity.Attachment;
+import com.jpacommunity.board.core.entity.Category;
+import com.jpacommunity.board.core.entity.Post;
+import com.jpacommunity.member.domain.GenderType;
+import com.jpacommunity.member.entity.Member;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static com.jpacommunity.member.domain.MemberRole.USER;
+import static com.jpacommunity.member.domain.MemberStatus.ACTIVE;
+import static com.jpacommunity.member.domain.MemberType.LOCAL;
+
+/**
+ * 첨부파일이 많은 게시글 저장 처리량 비교 (EntityManager, dev 프로필 DB)
+ *
+ * identity: 기본 매핑(IDENTITY). persist 마다 INSERT 를 실행해 생성된 키를 받으므로 insert 배치가 적용되지 않는다.
+ * pooled-ids: pooled-ids 프로필(orm-pooled-ids.xml, pooled-lo). 블록이 비었을 때만 p_id_sequences 를 갱신하고,
+ *             커밋 시 order_inserts 순서대로 테이블별 배치 INSERT 를 실행한다.
+ *
+ * 애플리케이션과 같은 스프링 컨텍스트(hibernate.jdbc.batch_size, rewriteBatchedStatements 포함)로 실행한다.
+ * pooled-ids 는 sql/id_sequences.sql 로 시드된 DB 에서 실행해야 기존 ID 와 충돌하지 않는다. 저장한 행은 Trial 종료 시 삭제한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PostInsertBenchmark {
+    @Param({"identity", "pooled-ids"})
+    private String ids;
+
+    @Param({"1", "10", "50"})
+    private int attachments;
+
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+
+    private Long categoryId;
+    private Long memberId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(JpaCommunityApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.jpa.show-sql=false", "logging.level.root=WARN", "logging.level.org.springframework.security=WARN");
+        if ("pooled-ids".equals(ids)) {
+            builder.profiles("pooled-ids");
+        }
+        context = builder.run();
+
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Member member = Member.builder()
+                    .email("benchmark" + System.nanoTime() % 1_000_000 + "@naver.com")
+                    .tel("01077776666")
+                    .name("benchmark")
+                    .password("12345")
+                    .nickname("bench" + System.nanoTime() % 1_000_000)
+                    .gender(GenderType.M)
+                    .birthdate(LocalDate.of(2011, 1, 13))
+                    .role(USER)
+                    .type(LOCAL)
+                    .status(ACTIVE)
+                    .publicId(UUID.randomUUID())
+                    .build();
+            entityManager.persist(member);
+            memberId = member.getId();
+            categoryId = entityManager.createQuery("select c.id from Category c order by c.id", Long.class)
+                    .setMaxResults(1)
+                    .getSingleResult();
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.createQuery("delete from Attachment a where a.post.id in (select p.id from Post p where p.member.id = :memberId)")
+                    .setParameter("memberId", memberId)
+                    .executeUpdate();
+            entityManager.createQuery("delete from Post p where p.member.id = :memberId")
+                    .setParameter("memberId", memberId)
+                    .executeUpdate();
+            entityManager.createQuery("delete from Member m where m.id = :memberId")
+                    .setParameter("memberId", memberId)
+                    .executeUpdate();
+        });
+        context.close();
+    }
+
+    @Benchmark
+    public Long insertPostWithAttachments() {
+        return transactionTemplate.execute(status -> {
+            Post post = new Post(new PostCreateRequest("게시글 제목", "게시글 내용", categoryId),
+                    entityManager.getReference(Category.class, categoryId),
+                    entityManager.getReference(Member.class, memberId));
+            entityManager.persist(post);
+
+            Long lastId = post.getId();
+            for (int i = 0; i < attachments; i++) {
+                Attachment attachment = new Attachment(AttachmentRequest.builder().filename("image-" + i + ".png").size(1024L).build());
+                attachment.updatePost(post);
+                attachment.updateSavedFilename("saved-" + i + ".png");
+                attachment.updatePath("/upload/2024/11/01");
+                attachment.updateThumbnail(true);
+                entityManager.persist(attachment);
+                lastId = attachment.getId();
+            }
+            // 커밋 시 flush 되며, 영속성 컨텍스트는 트랜잭션과 함께 닫힌다
+            return lastId;
+        });
+    }
+}
@@ -0,0 +1,53 @@
+package com.jpacommunity.jwt;
+
+import com.jpacommunity.jwt.properties.JwtProperties;
+import com.jpacommunity.jwt.util.JwtKeyRegistry;
+import com.jpacommunity.jwt.util.JwtProvider;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static com.jpacommunity.jwt.util.JwtProvider.TOKEN_CATEGORY_ACCESS;
+
+/**
+ * 토큰 파싱 처리량 비교
+ *
+ * legacy: 파싱할 때마다 시크릿 디코딩 + SecretKey 생성 + JwtParser 생성 (기존 JwtProvider.getClaims 동작)
+ * cached: JwtKeyRegistry 의 키와 JwtProvider 의 재사용 JwtParser 사용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtProviderBenchmark {
+    private static final String SECRET_KEY = "401b09eab3c013d4ca54922bb802bec8fd5318192b0a75f201d8b3727429080fb337591abd3e44453b954555b7a0812e1081c39b740293f765eae731f5a65ed1";
+
+    private JwtProvider jwtProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtProperties jwtProperties = new JwtProperties("myteam.org", SECRET_KEY);
+        jwtProvider = new JwtProvider(jwtProperties, new JwtKeyRegistry(jwtProperties));
+        token = jwtProvider.generateToken(TOKEN_CATEGORY_ACCESS, Duration.ofHours(1), UUID.randomUUID(), "USER", "ACTIVE");
+    }
+
+    @Benchmark
+    public Claims legacy() {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(Decoders.BASE64URL.decode(SECRET_KEY)))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    @Benchmark
+    public UUID cached() {
+        return jwtProvider.getPublicId(token);
+    }
+}
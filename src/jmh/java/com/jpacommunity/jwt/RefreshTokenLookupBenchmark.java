@@ -0,0 +1,133 @@
+package com.jpacommunity.jwt;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.sql.*;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static com.jpacommunity.common.util.hash.TokenHashUtil.sha256Hex;
+
+/**
+ * 리프레시 토큰 재발급 시 DB 경로(존재 확인 + 삭제 + 신규 저장) 지연시간 비교 (H2 인메모리, 기본 100만 건)
+ *
+ * legacy: 토큰 원문 컬럼과 public_id 로 비교 (인덱스 없음, 기존 existsByRefreshAndPublicId / deleteByRefreshAndPublicId)
+ * hashed: (public_id, token_hash) 복합 인덱스로 비교
+ *
+ * H2 는 BLOB 비교를 지원하지 않아 원문 컬럼은 인덱스 없는 VARCHAR 로 대신한다. 두 경우 모두 전체 스캔 여부만 차이가 난다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RefreshTokenLookupBenchmark {
+    @Param("1000000")
+    private int rows;
+
+    private Connection connection;
+    private UUID[] publicIds;
+    private String[] tokens;
+
+    private PreparedStatement legacyExists;
+    private PreparedStatement legacyDelete;
+    private PreparedStatement hashedExists;
+    private PreparedStatement hashedDelete;
+    private PreparedStatement insert;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:refresh_benchmark;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS p_refreshes");
+            statement.execute("CREATE TABLE p_refreshes (id BIGINT AUTO_INCREMENT PRIMARY KEY, public_id BINARY(16) NOT NULL, " +
+                    "refresh VARCHAR(255) NOT NULL, token_hash CHAR(64), expires_at TIMESTAMP NOT NULL)");
+            statement.execute("CREATE INDEX idx_refresh_public_id_token_hash ON p_refreshes (public_id, token_hash)");
+        }
+
+        publicIds = new UUID[rows];
+        tokens = new String[rows];
+        insert = connection.prepareStatement("INSERT INTO p_refreshes (public_id, refresh, token_hash, expires_at) VALUES (?, ?, ?, ?)");
+        connection.setAutoCommit(false);
+        for (int i = 0; i < rows; i++) {
+            publicIds[i] = UUID.randomUUID();
+            tokens[i] = "eyJhbGciOiJIUzI1NiJ9." + UUID.randomUUID() + "." + UUID.randomUUID();
+            bindInsert(i);
+            insert.addBatch();
+            if (i % 10_000 == 0) {
+                insert.executeBatch();
+            }
+        }
+        insert.executeBatch();
+        connection.commit();
+        connection.setAutoCommit(true);
+
+        legacyExists = connection.prepareStatement("SELECT 1 FROM p_refreshes WHERE refresh = ? AND public_id = ? LIMIT 1");
+        legacyDelete = connection.prepareStatement("DELETE FROM p_refreshes WHERE refresh = ? AND public_id = ?");
+        hashedExists = connection.prepareStatement("SELECT 1 FROM p_refreshes WHERE public_id = ? AND token_hash = ? LIMIT 1");
+        hashedDelete = connection.prepareStatement("DELETE FROM p_refreshes WHERE public_id = ? AND token_hash = ?");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE p_refreshes");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public boolean legacy() throws SQLException {
+        int i = ThreadLocalRandom.current().nextInt(rows);
+        byte[] publicId = toBytes(publicIds[i]);
+
+        legacyExists.setString(1, tokens[i]);
+        legacyExists.setBytes(2, publicId);
+        boolean exists;
+        try (ResultSet resultSet = legacyExists.executeQuery()) {
+            exists = resultSet.next();
+        }
+
+        legacyDelete.setString(1, tokens[i]);
+        legacyDelete.setBytes(2, publicId);
+        legacyDelete.executeUpdate();
+        bindInsert(i);
+        insert.executeUpdate();
+        return exists;
+    }
+
+    @Benchmark
+    public boolean hashed() throws SQLException {
+        int i = ThreadLocalRandom.current().nextInt(rows);
+        byte[] publicId = toBytes(publicIds[i]);
+        String tokenHash = sha256Hex(tokens[i]);
+
+        hashedExists.setBytes(1, publicId);
+        hashedExists.setString(2, tokenHash);
+        boolean exists;
+        try (ResultSet resultSet = hashedExists.executeQuery()) {
+            exists = resultSet.next();
+        }
+
+        hashedDelete.setBytes(1, publicId);
+        hashedDelete.setString(2, tokenHash);
+        hashedDelete.executeUpdate();
+        bindInsert(i);
+        insert.executeUpdate();
+        return exists;
+    }
+
+    private void bindInsert(int i) throws SQLException {
+        insert.setBytes(1, toBytes(publicIds[i]));
+        insert.setString(2, tokens[i]);
+        insert.setString(3, sha256Hex(tokens[i]));
+        insert.setTimestamp(4, new Timestamp(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(24)));
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
@@ -0,0 +1,69 @@
+package com.jpacommunity.jwt.bloom;
+
+/**
+ * 64비트 해시 두 개를 입력으로 받는 블룸 필터
+ *
+ * 입력이 이미 SHA-256 등으로 고르게 분포된 값이라는 전제로 추가 해싱 없이
+ * h1 + i * h2 (double hashing) 로 k 개의 비트 위치를 만든다.
+ * 생성 후 put 은 재구성 스레드에서만 호출하고, 완성된 필터는 읽기 전용으로 공유한다.
+ */
+final class BloomFilter {
+    private final long[] bits;
+    private final long bitSize;
+    private final int hashCount;
+    private long entries;
+
+    private BloomFilter(long bitSize, int hashCount) {
+        this.bits = new long[(int) ((bitSize + 63) >>> 6)];
+        this.bitSize = (long) bits.length << 6;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * 예상 원소 수와 목표 오탐률로 크기를 정한다.
+     * m = -n ln(p) / (ln 2)^2, k = m / n * ln 2
+     */
+    static BloomFilter create(long expectedEntries, double fpp) {
+        long n = Math.max(1, expectedEntries);
+        long m = (long) Math.ceil(-n * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        int k = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+        return new BloomFilter(Math.max(64, m), k);
+    }
+
+    void put(long h1, long h2) {
+        long combined = h1;
+        for (int i = 0; i < hashCount; i++) {
+            long index = (combined & Long.MAX_VALUE) % bitSize;
+            bits[(int) (index >>> 6)] |= 1L << index;
+            combined += h2;
+        }
+        entries++;
+    }
+
+    boolean mightContain(long h1, long h2) {
+        long combined = h1;
+        for (int i = 0; i < hashCount; i++) {
+            long index = (combined & Long.MAX_VALUE) % bitSize;
+            if ((bits[(int) (index >>> 6)] & (1L << index)) == 0) {
+                return false;
+            }
+            combined += h2;
+        }
+        return true;
+    }
+
+    long entries() {
+        return entries;
+    }
+
+    long memoryBytes() {
+        return (long) bits.length * Long.BYTES;
+    }
+
+    /**
+     * 현재 원소 수 기준 예상 오탐률 (1 - e^(-kn/m))^k
+     */
+    double expectedFpp() {
+        return Math.pow(1 - Math.exp(-(double) hashCount * entries / bitSize), hashCount);
+    }
+}
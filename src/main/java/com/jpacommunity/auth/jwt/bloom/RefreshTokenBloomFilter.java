@@ -0,0 +1,210 @@
+package com.jpacommunity.jwt.bloom;
+
+import com.jpacommunity.jwt.domain.ParsedToken;
+import com.jpacommunity.jwt.store.RefreshTokenStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.function.ToLongFunction;
+
+/**
+ * 저장된 리프레시 토큰 해시와 토큰 패밀리 ID 의 블룸 필터
+ *
+ * 필터에 확실히 없는 토큰은 저장소 조회 없이 거절한다. 필터는 주기적으로 저장소 전체를 읽어 새로 만들고 통째로 교체한다.
+ * 마지막 재구성을 시작한 시각 이후에 발급된 토큰은 필터에 없을 수 있으므로(다른 인스턴스 포함) 판단하지 않는다.
+ * 패밀리 ID 가 필터에 있으면 교체된 토큰의 재사용일 수 있으므로 패밀리 폐기를 위해 저장소를 조회한다.
+ *
+ * 메트릭
+ * jwt.refresh.bloom.entries / memory / expected.fpp: 현재 필터 원소 수, 메모리(byte), 이론 오탐률
+ * jwt.refresh.bloom.checks{result}: absent(저장소 조회 생략), maybe(필터 적중), skipped(판단 불가)
+ * jwt.refresh.bloom.false.positives: 필터 적중했으나 저장소에 없던 건수. observed.fpp = false.positives / (false.positives + absent)
+ */
+@Slf4j
+@Component
+public class RefreshTokenBloomFilter {
+    private static final long FAMILY_SALT = 0x9E3779B97F4A7C15L;
+
+    private final RefreshTokenStore refreshTokenStore;
+    private final RefreshTokenBloomProperties properties;
+    private volatile Snapshot snapshot; // 재구성 전에는 null
+
+    private final Counter absent;
+    private final Counter maybe;
+    private final Counter skipped;
+    private final Counter falsePositives;
+
+    public RefreshTokenBloomFilter(RefreshTokenStore refreshTokenStore, RefreshTokenBloomProperties properties, MeterRegistry meterRegistry) {
+        this.refreshTokenStore = refreshTokenStore;
+        this.properties = properties;
+        this.absent = meterRegistry.counter("jwt.refresh.bloom.checks", "result", "absent");
+        this.maybe = meterRegistry.counter("jwt.refresh.bloom.checks", "result", "maybe");
+        this.skipped = meterRegistry.counter("jwt.refresh.bloom.checks", "result", "skipped");
+        this.falsePositives = meterRegistry.counter("jwt.refresh.bloom.false.positives");
+
+        Gauge.builder("jwt.refresh.bloom.entries", this, filter -> filter.gaugeValue(BloomFilter::entries))
+                .register(meterRegistry);
+        Gauge.builder("jwt.refresh.bloom.memory", this, filter -> filter.gaugeValue(BloomFilter::memoryBytes))
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("jwt.refresh.bloom.expected.fpp", this, filter -> {
+                    Snapshot current = filter.snapshot;
+                    return current == null ? 0 : current.bloomFilter().expectedFpp();
+                })
+                .register(meterRegistry);
+        Gauge.builder("jwt.refresh.bloom.observed.fpp", this, RefreshTokenBloomFilter::observedFpp)
+                .register(meterRegistry);
+    }
+
+    public enum Decision {
+        ABSENT, // 저장소에 확실히 없음
+        MAYBE, // 토큰 해시가 필터에 있음
+        SKIPPED // 필터가 없거나 최근 발급 토큰이거나 패밀리만 필터에 있음
+    }
+
+    /**
+     * 저장소 조회 전 빠른 판단
+     *
+     * @param tokenHash 리프레시 토큰 해시
+     * @param parsedToken 서명 검증된 토큰 (iat, fid 사용)
+     * @param checkFamily 패밀리 ID 가 필터에 있으면 저장소를 조회할지 여부 (재발급 시 재사용 감지용)
+     */
+    public Decision check(String tokenHash, ParsedToken parsedToken, boolean checkFamily) {
+        Snapshot current = snapshot;
+        if (current == null || parsedToken.getIssuedAt() == null
+                || !parsedToken.getIssuedAt().toInstant().isBefore(current.builtFrom().minus(properties.getClockSkew()))) {
+            skipped.increment();
+            return Decision.SKIPPED;
+        }
+
+        if (current.bloomFilter().mightContain(high(tokenHash), low(tokenHash))) {
+            maybe.increment();
+            return Decision.MAYBE;
+        }
+
+        UUID familyId = parsedToken.getFamilyId();
+        if (checkFamily && familyId != null && current.bloomFilter().mightContain(familyHigh(familyId), familyLow(familyId))) {
+            skipped.increment();
+            return Decision.SKIPPED;
+        }
+
+        absent.increment();
+        return Decision.ABSENT;
+    }
+
+    /**
+     * MAYBE 로 판단했지만 저장소에 없던 경우 호출
+     */
+    public void recordFalsePositive() {
+        falsePositives.increment();
+    }
+
+    /**
+     * 저장소의 유효한 토큰으로 필터 재구성
+     * 저장소가 전체 조회를 지원하지 않거나 해시가 채워지지 않은 행이 있으면 필터를 사용하지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.refresh-bloom.rebuild-interval:5m}")
+    public void rebuild() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        Instant builtFrom = Instant.now();
+        LongPairs pairs = new LongPairs();
+        boolean complete = refreshTokenStore.forEachLive(builtFrom, (tokenHash, familyId) -> {
+            pairs.add(high(tokenHash), low(tokenHash));
+            if (familyId != null) {
+                pairs.add(familyHigh(familyId), familyLow(familyId));
+            }
+        });
+
+        if (!complete) {
+            snapshot = null;
+            log.info("리프레시 토큰 블룸 필터를 사용하지 않습니다. 저장소가 전체 조회를 지원하지 않거나 token_hash 백필이 끝나지 않았습니다.");
+            return;
+        }
+
+        BloomFilter bloomFilter = BloomFilter.create(pairs.size(), properties.getFpp());
+        for (int i = 0; i < pairs.size(); i++) {
+            bloomFilter.put(pairs.high(i), pairs.low(i));
+        }
+        snapshot = new Snapshot(bloomFilter, builtFrom);
+        log.debug("리프레시 토큰 블룸 필터 재구성: entries={}, bytes={}", bloomFilter.entries(), bloomFilter.memoryBytes());
+    }
+
+    private double gaugeValue(ToLongFunction<BloomFilter> value) {
+        Snapshot current = snapshot;
+        return current == null ? 0 : value.applyAsLong(current.bloomFilter());
+    }
+
+    private double observedFpp() {
+        double fp = falsePositives.count();
+        double total = fp + absent.count();
+        return total == 0 ? 0 : fp / total;
+    }
+
+    // 토큰 해시는 SHA-256 16진수 문자열이므로 앞 128비트를 그대로 사용한다
+    private static long high(String tokenHash) {
+        return Long.parseUnsignedLong(tokenHash, 0, 16, 16);
+    }
+
+    private static long low(String tokenHash) {
+        return Long.parseUnsignedLong(tokenHash, 16, 32, 16) | 1L; // 홀수로 만들어 double hashing 주기를 보장
+    }
+
+    private static long familyHigh(UUID familyId) {
+        return mix(familyId.getMostSignificantBits() ^ FAMILY_SALT);
+    }
+
+    private static long familyLow(UUID familyId) {
+        return mix(familyId.getLeastSignificantBits() + FAMILY_SALT) | 1L;
+    }
+
+    // MurmurHash3 fmix64
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    private record Snapshot(BloomFilter bloomFilter, Instant builtFrom) {
+    }
+
+    /**
+     * 재구성 중 해시 쌍을 모아두는 배열. 원소 수를 알아야 필터 크기를 정할 수 있다.
+     */
+    private static final class LongPairs {
+        private long[] values = new long[1024];
+        private int size;
+
+        void add(long high, long low) {
+            if ((size + 1) * 2 > values.length) {
+                values = Arrays.copyOf(values, values.length * 2);
+            }
+            values[size * 2] = high;
+            values[size * 2 + 1] = low;
+            size++;
+        }
+
+        int size() {
+            return size;
+        }
+
+        long high(int index) {
+            return values[index * 2];
+        }
+
+        long low(int index) {
+            return values[index * 2 + 1];
+        }
+    }
+}
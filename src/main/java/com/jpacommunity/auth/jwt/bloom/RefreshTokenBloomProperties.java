@@ -0,0 +1,28 @@
+package com.jpacommunity.jwt.bloom;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@Getter
+@ConfigurationProperties("jwt.refresh-bloom")
+public class RefreshTokenBloomProperties {
+    private final boolean enabled;
+    private final double fpp; // 목표 오탐률
+    private final Duration rebuildInterval; // 재구성 간격
+    private final Duration clockSkew; // 인스턴스 간 시계 오차 허용치
+
+    @ConstructorBinding
+    public RefreshTokenBloomProperties(@DefaultValue("true") boolean enabled,
+                                       @DefaultValue("0.01") double fpp,
+                                       @DefaultValue("5m") Duration rebuildInterval,
+                                       @DefaultValue("5s") Duration clockSkew) {
+        this.enabled = enabled;
+        this.fpp = fpp;
+        this.rebuildInterval = rebuildInterval;
+        this.clockSkew = clockSkew;
+    }
+}
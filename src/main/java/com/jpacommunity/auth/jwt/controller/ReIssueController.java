@@ -33,7 +33,6 @@ public class ReIssueController {
         this.reIssueService = reIssueService;
     }
 
-    // TODO_ : 만료시간이 지난 토큰은 주기적으로 삭제하는 스케쥴러 개발 필요
     @PostMapping(TOKEN_REISSUE_PATH)
     public ResponseEntity<?> reissue(HttpServletRequest request, HttpServletResponse response) {
         log.info("ReIssueController reissue START");
@@ -0,0 +1,38 @@
+package com.jpacommunity.jwt.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Date;
+import java.util.UUID;
+
+import static com.jpacommunity.jwt.util.JwtProvider.TOKEN_CATEGORY_ACCESS;
+import static com.jpacommunity.jwt.util.JwtProvider.TOKEN_CATEGORY_REFRESH;
+
+/**
+ * 서명 검증을 한 번 마친 토큰의 클레임
+ * 같은 토큰에 대해 카테고리, publicId, 권한, 상태를 조회할 때마다 다시 검증하지 않도록 JwtProvider.parse 가 반환한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ParsedToken {
+    private final String category;
+    private final UUID publicId;
+    private final String role;
+    private final String status;
+    private final Date expiration;
+    private final UUID familyId; // 리프레시 토큰 패밀리 ID. 어세스 토큰이나 이전에 발급된 토큰은 null
+    private final Date issuedAt;
+
+    public boolean isAccessToken() {
+        return TOKEN_CATEGORY_ACCESS.equals(category);
+    }
+
+    public boolean isRefreshToken() {
+        return TOKEN_CATEGORY_REFRESH.equals(category);
+    }
+
+    public boolean isExpired() {
+        return expiration.before(new Date());
+    }
+}
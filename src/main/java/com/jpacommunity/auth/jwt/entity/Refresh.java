@@ -6,9 +6,17 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.Instant;
 import java.util.UUID;
 
+import static com.jpacommunity.common.util.hash.TokenHashUtil.sha256Hex;
+
 @Entity(name = "p_refreshes")
+@Table(indexes = {
+        @Index(name = "idx_refresh_public_id_token_hash", columnList = "public_id, token_hash"),
+        @Index(name = "idx_refresh_public_id_previous_token_hash", columnList = "public_id, previous_token_hash"),
+        @Index(name = "idx_refresh_expires_at", columnList = "expires_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Refresh {
@@ -20,13 +28,31 @@ public class Refresh {
     private UUID publicId;
     @Column(nullable = false, columnDefinition="BLOB")
     private String refresh;
-    @Column(nullable = false)
-    private String expiration;
+    // 조회용 토큰 SHA-256 해시. 기존 행은 RefreshTokenHashBackfillRunner 또는 sql/refresh_token_hash.sql 로 채운다.
+    @Column(name = "token_hash", columnDefinition = "CHAR(64)")
+    private String tokenHash;
+    // 토큰 패밀리 ID. 이미 교체된 토큰이 다시 사용되면 같은 패밀리의 토큰을 모두 폐기한다.
+    @Column(name = "family_id", columnDefinition = "BINARY(16)")
+    private UUID familyId;
+    // 직전 토큰 해시와 교체 시각. 교체 직후 같은 토큰으로 온 동시 요청을 재사용과 구분한다.
+    @Column(name = "previous_token_hash", columnDefinition = "CHAR(64)")
+    private String previousTokenHash;
+    @Column(name = "rotated_at")
+    private Instant rotatedAt;
+    // 만료 시각. RefreshTokenPurger 가 이 컬럼으로 만료된 토큰을 삭제한다.
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
 
     @Builder
-    public Refresh(UUID publicId, String refresh, String expiration) {
+    public Refresh(UUID publicId, UUID familyId, String refresh, Instant expiresAt) {
         this.publicId = publicId;
+        this.familyId = familyId;
         this.refresh = refresh;
-        this.expiration = expiration;
+        this.tokenHash = sha256Hex(refresh);
+        this.expiresAt = expiresAt;
+    }
+
+    public void updateTokenHash() {
+        this.tokenHash = sha256Hex(refresh);
     }
-}
\ No newline at end of file
+}
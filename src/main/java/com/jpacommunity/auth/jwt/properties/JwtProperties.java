@@ -4,15 +4,26 @@ import lombok.Getter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.ConstructorBinding;
 
+import java.util.Collections;
+import java.util.Map;
+
 @Getter
 @ConfigurationProperties("jwt")
 public class JwtProperties {
     private final String issuer;
     private final String secretKey;
+    private final String activeKeyId; // 서명에 사용할 키 ID (kid). 비어있으면 secret-key 를 사용
+    private final Map<String, String> keys; // 키 교체(rotation)용 kid -> Base64URL 시크릿 목록
 
-    @ConstructorBinding
     public JwtProperties(String issuer, String secretKey) {
+        this(issuer, secretKey, null, null);
+    }
+
+    @ConstructorBinding
+    public JwtProperties(String issuer, String secretKey, String activeKeyId, Map<String, String> keys) {
         this.issuer = issuer;
         this.secretKey = secretKey;
+        this.activeKeyId = activeKeyId;
+        this.keys = keys != null ? keys : Collections.emptyMap();
     }
-}
\ No newline at end of file
+}
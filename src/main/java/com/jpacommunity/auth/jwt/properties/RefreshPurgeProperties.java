@@ -0,0 +1,28 @@
+package com.jpacommunity.jwt.properties;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@Getter
+@ConfigurationProperties("jwt.refresh-purge")
+public class RefreshPurgeProperties {
+    private final boolean enabled;
+    private final int batchSize; // 한 번의 DELETE 로 삭제할 최대 행 수
+    private final int maxBatches; // 실행 1회당 최대 배치 수
+    private final Duration fixedDelay; // 실행 간격
+
+    @ConstructorBinding
+    public RefreshPurgeProperties(@DefaultValue("true") boolean enabled,
+                                  @DefaultValue("1000") int batchSize,
+                                  @DefaultValue("100") int maxBatches,
+                                  @DefaultValue("10m") Duration fixedDelay) {
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.fixedDelay = fixedDelay;
+    }
+}
@@ -1,15 +1,83 @@
 package com.jpacommunity.jwt.repository;
 
 import com.jpacommunity.jwt.entity.Refresh;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
+/**
+ * 리프레시 토큰 조회/삭제는 (public_id, token_hash) 인덱스를 사용한다.
+ * 토큰 원문(BLOB)으로 비교하지 않는다.
+ */
 public interface RefreshJpaRepository extends JpaRepository<Refresh, Long> {
-    Boolean existsByRefreshAndPublicId(String refresh, UUID publicId);
+    boolean existsByPublicIdAndTokenHash(UUID publicId, String tokenHash);
     Optional<Refresh> findByPublicId(UUID publicId); // 테스트 용으로 추가함
     @Transactional
-    void deleteByRefreshAndPublicId(String refresh, UUID publicId);
+    @Modifying(clearAutomatically = true)
+    @Query("delete from p_refreshes r where r.publicId = :publicId and r.tokenHash = :tokenHash")
+    int deleteByPublicIdAndTokenHash(@Param("publicId") UUID publicId, @Param("tokenHash") String tokenHash);
+
+    /**
+     * 토큰 교체. 기존 해시와 일치하는 행만 새 토큰으로 바꾸는 단일 UPDATE 이므로
+     * 같은 토큰으로 동시에 재발급을 요청해도 한 요청만 1 을 반환한다.
+     * 기존 해시는 previous_token_hash 에 남겨 진 요청이 재사용으로 오인되지 않게 한다.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update p_refreshes r set r.tokenHash = :newTokenHash, r.refresh = :newRefresh, r.familyId = :familyId, r.expiresAt = :expiresAt, " +
+            "r.previousTokenHash = :oldTokenHash, r.rotatedAt = :rotatedAt " +
+            "where r.publicId = :publicId and r.tokenHash = :oldTokenHash")
+    int rotate(@Param("publicId") UUID publicId,
+               @Param("oldTokenHash") String oldTokenHash,
+               @Param("newTokenHash") String newTokenHash,
+               @Param("newRefresh") String newRefresh,
+               @Param("familyId") UUID familyId,
+               @Param("expiresAt") Instant expiresAt,
+               @Param("rotatedAt") Instant rotatedAt);
+
+    // since 이후에 oldTokenHash 에서 교체된 토큰 존재 여부 (동시 재발급에서 진 요청 판별)
+    boolean existsByPublicIdAndPreviousTokenHashAndRotatedAtAfter(UUID publicId, String previousTokenHash, Instant since);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("delete from p_refreshes r where r.publicId = :publicId and r.familyId = :familyId")
+    int deleteByPublicIdAndFamilyId(@Param("publicId") UUID publicId, @Param("familyId") UUID familyId);
+
+    /**
+     * 만료된 토큰을 최대 limit 건 삭제 (MySQL DELETE ... LIMIT)
+     * 한 번에 잠그는 행 수를 제한하기 위해 RefreshTokenPurger 가 배치 단위로 반복 호출한다.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM p_refreshes WHERE expires_at < :now LIMIT :limit", nativeQuery = true)
+    int deleteExpired(@Param("now") Instant now, @Param("limit") int limit);
+
+    // 블룸 필터 재구성용 유효 토큰 스트림 조회. 트랜잭션 안에서 소비해야 한다.
+    // MySQL 드라이버는 useCursorFetch 없이 양수 fetch size 를 무시하고 전체를 메모리에 읽으므로 Integer.MIN_VALUE 로 행 단위 스트리밍한다.
+    // 스트리밍 중에는 같은 커넥션으로 다른 쿼리를 실행할 수 없다 (소비자는 메모리 작업만 한다)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("select r.tokenHash as tokenHash, r.familyId as familyId from p_refreshes r where r.expiresAt > :now")
+    Stream<LiveToken> streamLive(@Param("now") Instant now);
+
+    interface LiveToken {
+        String getTokenHash();
+
+        UUID getFamilyId();
+    }
+
+    // token_hash 백필 대상 조회
+    List<Refresh> findByTokenHashIsNull(Pageable pageable);
 }
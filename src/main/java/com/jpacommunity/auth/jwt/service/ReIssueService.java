@@ -1,10 +1,14 @@
 package com.jpacommunity.jwt.service;
 
 import com.jpacommunity.global.exception.JpaCommunityException;
+import com.jpacommunity.jwt.bloom.RefreshTokenBloomFilter;
+import com.jpacommunity.jwt.bloom.RefreshTokenBloomFilter.Decision;
+import com.jpacommunity.jwt.domain.ParsedToken;
 import com.jpacommunity.jwt.domain.Tokens;
-import com.jpacommunity.jwt.entity.Refresh;
-import com.jpacommunity.jwt.repository.RefreshJpaRepository;
+import com.jpacommunity.jwt.store.RefreshTokenStore;
+import com.jpacommunity.jwt.store.RotationResult;
 import com.jpacommunity.jwt.util.JwtProvider;
+import com.jpacommunity.member.repository.MemberJpaRepository;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
@@ -15,12 +19,13 @@ import org.springframework.stereotype.Service;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
-import java.util.Date;
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 
 import static com.jpacommunity.global.exception.ErrorCode.*;
 import static com.jpacommunity.common.util.cookie.CookieUtil.getCookie;
+import static com.jpacommunity.common.util.hash.TokenHashUtil.sha256Hex;
 import static com.jpacommunity.jwt.util.JwtProvider.*;
 
 @Slf4j
@@ -28,35 +33,39 @@ import static com.jpacommunity.jwt.util.JwtProvider.*;
 @RequiredArgsConstructor
 public class ReIssueService {
     private final JwtProvider jwtProvider;
-    private final RefreshJpaRepository refreshJpaRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final RefreshTokenBloomFilter refreshTokenBloomFilter;
+    private final MemberJpaRepository memberJpaRepository;
 
     /**
-     * Refresh Token 검증
+     * Refresh Token 서명 검증 및 클레임 추출
+     *
+     * @param refresh 리프레시 토큰
+     * @return ParsedToken
      */
-    public void validateRefreshToken(String refresh, UUID publicId) {
-        log.info("refresh : {}, publicId: {}", refresh, publicId);
-
-        // 리프레시 토큰 만료 여부 체크
+    public ParsedToken parseRefreshToken(String refresh) {
         try {
-            Boolean expired = jwtProvider.isExpired(refresh);
-            if (expired) {
-                throw new JpaCommunityException(REFRESH_TOKEN_EXPIRED);
-            }
+            return jwtProvider.parse(refresh);
         } catch (ExpiredJwtException e) {
             throw new JpaCommunityException(INVALID_REFRESH_TOKEN);
         }
+    }
 
-        // 리프레시 토큰 카테고리 검증
-        String category = jwtProvider.getCategory(refresh);
-        if (!category.equals(TOKEN_CATEGORY_REFRESH)) {
-            throw new JpaCommunityException(INVALID_TOKEN_TYPE);
+    /**
+     * Refresh Token 클레임 검증
+     * 저장소 존재 여부는 rotateRefreshToken 의 조건부 교체로 확인한다.
+     */
+    public void validateRefreshToken(ParsedToken parsedToken) {
+        log.info("publicId: {}", parsedToken.getPublicId());
+
+        // 리프레시 토큰 만료 여부 체크
+        if (parsedToken.isExpired()) {
+            throw new JpaCommunityException(REFRESH_TOKEN_EXPIRED);
         }
 
-        //DB에 저장되어 있는지 확인
-        Boolean isExist = refreshJpaRepository.existsByRefreshAndPublicId(refresh, publicId);
-        if (!isExist) {
-            log.info("기존의 리프레시 토큰이 존재하지 않음");
-            throw new JpaCommunityException(INVALID_REFRESH_TOKEN);
+        // 리프레시 토큰 카테고리 검증
+        if (!parsedToken.isRefreshToken()) {
+            throw new JpaCommunityException(INVALID_TOKEN_TYPE);
         }
     }
 
@@ -95,25 +104,43 @@ public class ReIssueService {
 
             log.info("Extracted refresh token: {}", refresh);
 
-            // Refresh Token 검증
-            UUID publicId = jwtProvider.getPublicId(refresh);
-            String role = jwtProvider.getRole(refresh);
-            String status = jwtProvider.getStatus(refresh);
+            // Refresh Token 검증 (서명 검증은 한 번만 수행)
+            ParsedToken parsedToken = parseRefreshToken(refresh);
+            UUID publicId = parsedToken.getPublicId();
+            String role = parsedToken.getRole();
+            String status = parsedToken.getStatus();
 
             log.info("publicId: {}, role: {}", publicId, role);
 
-            validateRefreshToken(refresh, publicId);
+            validateRefreshToken(parsedToken);
+
+            // 권한/상태 변경 전에 발급된 리프레시 토큰은 이전 클레임을 그대로 복사하므로 재발급하지 않는다 (다시 로그인)
+            // 인스턴스마다 다른 메모리 값이 아니라 회원에 저장된 폐기 시각으로 확인한다. iat 는 초 단위
+            long issuedAtSeconds = parsedToken.getIssuedAt() != null ? parsedToken.getIssuedAt().getTime() / 1000 : 0L;
+            Optional<Instant> tokensValidAfter = memberJpaRepository.findTokensValidAfterByPublicId(publicId);
+            if (tokensValidAfter.isPresent() && issuedAtSeconds <= tokensValidAfter.get().getEpochSecond()) {
+                log.info("폐기된 리프레시 토큰 publicId: {}", publicId);
+                throw new JpaCommunityException(INVALID_REFRESH_TOKEN);
+            }
+
+            // 블룸 필터에 확실히 없는 토큰은 저장소 조회 없이 거절
+            Decision decision = refreshTokenBloomFilter.check(sha256Hex(refresh), parsedToken, true);
+            if (decision == Decision.ABSENT) {
+                log.info("저장되지 않은 리프레시 토큰 (블룸 필터)");
+                throw new JpaCommunityException(INVALID_REFRESH_TOKEN);
+            }
+
+            // 패밀리 ID 가 없는 이전 토큰은 새 패밀리로 시작한다
+            UUID familyId = parsedToken.getFamilyId() != null ? parsedToken.getFamilyId() : UUID.randomUUID();
 
             // 새로운 Access 및 Refresh 토큰 생성
             // Authorization
             String newAccess = jwtProvider.generateToken(TOKEN_CATEGORY_ACCESS, Duration.ofMinutes(10), publicId, role, status);
             // X-Refresh-Token
-            String newRefresh = jwtProvider.generateToken(TOKEN_CATEGORY_REFRESH, Duration.ofHours(24), publicId, role, status);
+            String newRefresh = jwtProvider.generateRefreshToken(Duration.ofHours(24), publicId, role, status, familyId);
 
-            // 기존 리프레시 토큰 삭제
-            deleteByRefreshAndPublicId(refresh, publicId);
-            // 새로운 리프레시 토큰 등록
-            addRefreshEntity(publicId, newRefresh, Duration.ofHours(24));
+            // 기존 리프레시 토큰을 새 토큰으로 교체 (단일 조건부 UPDATE)
+            rotateRefreshToken(publicId, familyId, refresh, newRefresh, Duration.ofHours(24), decision);
 
             return new Tokens(newAccess, newRefresh);
         } catch (JpaCommunityException e) {
@@ -127,19 +154,30 @@ public class ReIssueService {
         }
     }
 
-    public void addRefreshEntity(UUID publicId, String refresh, Duration duration) {
-        log.info("addRefreshEntity > publicId: {}, refresh: {}, expiredMs: {}", publicId, refresh, duration.toMillis());
-        Date date = new Date(System.currentTimeMillis() + duration.toMillis());
+    /**
+     * 리프레시 토큰 교체
+     * 저장된 기존 토큰과 일치할 때만 교체되며, 이미 교체된 토큰을 다시 사용하면 패밀리 전체가 폐기된다.
+     * 같은 토큰으로 동시에 온 요청 중 진 요청은 패밀리를 유지한 채 409 로 응답한다. (이긴 요청의 새 토큰은 유효)
+     */
+    public void rotateRefreshToken(UUID publicId, UUID familyId, String refresh, String newRefresh, Duration duration, Decision decision) {
+        RotationResult result = refreshTokenStore.rotate(publicId, familyId, refresh, newRefresh, Instant.now().plus(duration));
 
-        Refresh refreshEntity = Refresh.builder()
-                .publicId(publicId)
-                .refresh(refresh)
-                .expiration(date.toString())
-                .build();
-        refreshJpaRepository.save(refreshEntity);
-    }
+        if ((result == RotationResult.NOT_FOUND || result == RotationResult.REUSED) && decision == Decision.MAYBE) {
+            refreshTokenBloomFilter.recordFalsePositive();
+        }
 
-    public void deleteByRefreshAndPublicId(String refresh, UUID publicId) {
-        refreshJpaRepository.deleteByRefreshAndPublicId(refresh, publicId);
+        if (result == RotationResult.RACED) {
+            log.info("동시 재발급 요청에서 다른 요청이 먼저 교체함 publicId: {}, familyId: {}", publicId, familyId);
+            throw new JpaCommunityException(RESOURCE_CONFLICT, "이미 재발급된 리프레시 토큰입니다");
+        }
+
+        if (result == RotationResult.REUSED) {
+            log.warn("이미 교체된 리프레시 토큰 재사용 감지. 토큰 패밀리 폐기 publicId: {}, familyId: {}", publicId, familyId);
+            throw new JpaCommunityException(INVALID_REFRESH_TOKEN);
+        }
+        if (result == RotationResult.NOT_FOUND) {
+            log.info("기존의 리프레시 토큰이 존재하지 않음");
+            throw new JpaCommunityException(INVALID_REFRESH_TOKEN);
+        }
     }
 }
@@ -0,0 +1,51 @@
+package com.jpacommunity.jwt.service;
+
+import com.jpacommunity.jwt.entity.Refresh;
+import com.jpacommunity.jwt.repository.RefreshJpaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * token_hash 컬럼 추가 이전에 저장된 리프레시 토큰의 해시를 채운다.
+ *
+ * ddl-auto: update 로 컬럼만 추가된 환경에서 한 번만 실행하는 마이그레이션이며, 운영 DB 는 sql/refresh_token_hash.sql 로 처리한다.
+ * token_hash IS NULL 조회는 인덱스를 타지 않으므로 기본값은 꺼져 있다. 백필이 필요한 기동에서만
+ * jwt.refresh-token-hash-backfill.enabled=true 로 실행하고, 완료 후에는 다시 끈다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnExpression("${jwt.refresh-token-hash-backfill.enabled:false} and '${jwt.refresh-store.type:jpa}' == 'jpa'")
+public class RefreshTokenHashBackfillRunner implements ApplicationRunner {
+    private static final int BATCH_SIZE = 1000;
+
+    private final RefreshJpaRepository refreshJpaRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int total = 0;
+        int updated;
+
+        do {
+            updated = transactionTemplate.execute(status -> {
+                List<Refresh> refreshes = refreshJpaRepository.findByTokenHashIsNull(PageRequest.of(0, BATCH_SIZE));
+                refreshes.forEach(Refresh::updateTokenHash);
+                return refreshes.size();
+            });
+            total += updated;
+        } while (updated == BATCH_SIZE);
+
+        if (total > 0) {
+            log.info("리프레시 토큰 token_hash 백필 완료: {} 건", total);
+        }
+    }
+}
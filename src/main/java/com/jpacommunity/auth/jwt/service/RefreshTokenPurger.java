@@ -0,0 +1,73 @@
+package com.jpacommunity.jwt.service;
+
+import com.jpacommunity.jwt.properties.RefreshPurgeProperties;
+import com.jpacommunity.jwt.repository.RefreshJpaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * 만료된 리프레시 토큰 주기 삭제
+ *
+ * DELETE ... LIMIT 를 배치마다 별도 트랜잭션으로 실행하여 긴 락을 잡지 않는다.
+ * 삭제 건수는 jwt.refresh.purge.rows, 실행 시간은 jwt.refresh.purge.duration 메트릭으로 노출된다.
+ */
+@Slf4j
+@Component
+// p_refreshes 테이블을 사용하는 경우(jwt.refresh-store.type=jpa)에만 동작한다. 다른 저장소는 자체 TTL 로 만료된다.
+@ConditionalOnExpression("${jwt.refresh-purge.enabled:true} and '${jwt.refresh-store.type:jpa}' == 'jpa'")
+public class RefreshTokenPurger {
+    private final RefreshJpaRepository refreshJpaRepository;
+    private final RefreshPurgeProperties properties;
+    private final Counter purgedRows;
+    private final Timer purgeTimer;
+
+    public RefreshTokenPurger(RefreshJpaRepository refreshJpaRepository, RefreshPurgeProperties properties, MeterRegistry meterRegistry) {
+        this.refreshJpaRepository = refreshJpaRepository;
+        this.properties = properties;
+        this.purgedRows = Counter.builder("jwt.refresh.purge.rows")
+                .description("삭제된 만료 리프레시 토큰 수")
+                .register(meterRegistry);
+        this.purgeTimer = Timer.builder("jwt.refresh.purge.duration")
+                .description("만료 리프레시 토큰 삭제 1회 실행 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.refresh-purge.fixed-delay:10m}", initialDelayString = "${jwt.refresh-purge.fixed-delay:10m}")
+    public void purgeExpired() {
+        Timer.Sample sample = Timer.start();
+        int total = purge();
+        sample.stop(purgeTimer);
+
+        if (total > 0) {
+            log.info("만료된 리프레시 토큰 삭제: {} 건", total);
+        }
+    }
+
+    /**
+     * 배치 단위 삭제. 삭제 건수가 배치 크기보다 작거나 최대 배치 수에 도달하면 종료한다.
+     *
+     * @return 삭제된 행 수
+     */
+    public int purge() {
+        Instant now = Instant.now();
+        int batchSize = properties.getBatchSize();
+        int total = 0;
+
+        for (int batch = 0; batch < properties.getMaxBatches(); batch++) {
+            int deleted = refreshJpaRepository.deleteExpired(now, batchSize);
+            total += deleted;
+            purgedRows.increment(deleted);
+            if (deleted < batchSize) {
+                break;
+            }
+        }
+        return total;
+    }
+}
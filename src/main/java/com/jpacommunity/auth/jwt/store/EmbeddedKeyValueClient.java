@@ -0,0 +1,68 @@
+package com.jpacommunity.jwt.store;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로컬/테스트용 내장 키-값 저장소
+ * TTL 은 조회 시 확인하고, 만료된 키는 주기적으로 정리한다.
+ */
+public class EmbeddedKeyValueClient implements KeyValueClient {
+    private final Map<String, Value> store = new ConcurrentHashMap<>();
+
+    @Override
+    public void set(String key, String value, Duration ttl) {
+        store.put(key, new Value(value, System.currentTimeMillis() + ttl.toMillis()));
+    }
+
+    @Override
+    public String get(String key) {
+        Value value = store.get(key);
+        if (value == null) {
+            return null;
+        }
+        if (value.isExpired(System.currentTimeMillis())) {
+            store.remove(key, value);
+            return null;
+        }
+        return value.value();
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public boolean delete(String key) {
+        Value value = store.remove(key);
+        return value != null && !value.isExpired(System.currentTimeMillis());
+    }
+
+    @Override
+    public long increment(String key, Duration ttl) {
+        long now = System.currentTimeMillis();
+        Value updated = store.compute(key, (k, value) -> {
+            if (value == null || value.isExpired(now)) {
+                return new Value("1", now + ttl.toMillis());
+            }
+            return new Value(String.valueOf(Long.parseLong(value.value()) + 1), value.expiresAtMillis());
+        });
+        return Long.parseLong(updated.value());
+    }
+
+    @Scheduled(fixedDelay = 60000) // 1분마다 실행
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        store.values().removeIf(value -> value.isExpired(now));
+    }
+
+    private record Value(String value, long expiresAtMillis) {
+        boolean isExpired(long now) {
+            return expiresAtMillis <= now;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.jpacommunity.jwt.store;
+
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * 만료 시각 기준 해시 타이머 휠
+ *
+ * 만료 시각을 tick 단위로 나눈 값으로 슬롯을 정하고, advance 호출 시 지나간 슬롯만 확인한다.
+ * 휠 한 바퀴보다 먼 만료 시각은 같은 슬롯에 남아 있다가 해당 tick 이 되었을 때 처리된다.
+ *
+ * @param <K> 만료 대상 키
+ */
+final class ExpiryTimerWheel<K> {
+    private final long tickMillis;
+    private final int mask;
+    private final Queue<Timeout<K>>[] slots;
+    private long nextTick;
+
+    @SuppressWarnings("unchecked")
+    ExpiryTimerWheel(long tickMillis, int wheelSize, long nowMillis) {
+        if (Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize 는 2의 거듭제곱이어야 합니다: " + wheelSize);
+        }
+        this.tickMillis = tickMillis;
+        this.mask = wheelSize - 1;
+        this.slots = new Queue[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            slots[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.nextTick = nowMillis / tickMillis;
+    }
+
+    void schedule(K key, long expiresAtMillis) {
+        long deadlineTick = Math.floorDiv(expiresAtMillis + tickMillis - 1, tickMillis);
+        slots[(int) (deadlineTick & mask)].add(new Timeout<>(key, deadlineTick));
+    }
+
+    /**
+     * 현재 시각까지 지난 슬롯의 만료 키를 onExpire 로 전달
+     * 오래 호출되지 않았더라도 최대 한 바퀴만 확인한다.
+     */
+    synchronized void advance(long nowMillis, Consumer<K> onExpire) {
+        long currentTick = nowMillis / tickMillis;
+        if (currentTick < nextTick) {
+            return;
+        }
+
+        long steps = Math.min(currentTick - nextTick + 1, slots.length);
+        for (long i = 0; i < steps; i++) {
+            Iterator<Timeout<K>> iterator = slots[(int) ((nextTick + i) & mask)].iterator();
+            while (iterator.hasNext()) {
+                Timeout<K> timeout = iterator.next();
+                if (timeout.deadlineTick() <= currentTick) {
+                    iterator.remove();
+                    onExpire.accept(timeout.key());
+                }
+            }
+        }
+        nextTick = currentTick + 1;
+    }
+
+    private record Timeout<K>(K key, long deadlineTick) {
+    }
+}
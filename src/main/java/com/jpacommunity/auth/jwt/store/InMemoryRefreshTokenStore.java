@@ -0,0 +1,226 @@
+package com.jpacommunity.jwt.store;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+
+import static com.jpacommunity.common.util.hash.TokenHashUtil.sha256Hex;
+
+/**
+ * 프로세스 내 리프레시 토큰 저장소
+ *
+ * 토큰 해시를 키로 락 스트라이핑된 맵에 저장하고, 만료는 타이머 휠로 제거한다.
+ * 조회 시에도 만료 여부를 확인하므로 휠이 늦게 돌더라도 만료된 토큰은 존재하지 않는 것으로 본다.
+ * 패밀리별 현재 토큰 해시를 따로 보관하여 교체된 토큰의 재사용을 감지한다.
+ * 교체를 시도한 토큰 해시는 rotationGrace 동안 기록하여, 같은 토큰으로 동시에 온 요청은 재사용이 아닌 경합(RACED)으로 처리한다.
+ * 단일 인스턴스 또는 로컬 개발 환경용이며, 재시작 시 모든 토큰이 사라진다.
+ */
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+    private final Stripe[] stripes;
+    private final ExpiryTimerWheel<String> timerWheel;
+    private final Map<UUID, String> familyTokens = new ConcurrentHashMap<>(); // 패밀리 ID -> 현재 토큰 해시
+    private final Map<String, Long> rotationClaims = new ConcurrentHashMap<>(); // 교체를 시도한 토큰 해시 -> 기록 만료 시각
+    private final long rotationGraceMillis;
+
+    public InMemoryRefreshTokenStore(int stripeCount, int wheelSize, long tickMillis, Duration rotationGrace) {
+        if (Integer.bitCount(stripeCount) != 1) {
+            throw new IllegalArgumentException("stripes 는 2의 거듭제곱이어야 합니다: " + stripeCount);
+        }
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.timerWheel = new ExpiryTimerWheel<>(tickMillis, wheelSize, System.currentTimeMillis());
+        this.rotationGraceMillis = rotationGrace.toMillis();
+    }
+
+    @Override
+    public void save(UUID publicId, UUID familyId, String refresh, Instant expiresAt) {
+        put(sha256Hex(refresh), new Entry(publicId, familyId, expiresAt.toEpochMilli()));
+    }
+
+    @Override
+    public boolean exists(UUID publicId, String refresh) {
+        String tokenHash = sha256Hex(refresh);
+        Stripe stripe = stripeOf(tokenHash);
+
+        stripe.lock.lock();
+        try {
+            Entry entry = stripe.entries.get(tokenHash);
+            return entry != null && entry.publicId().equals(publicId) && !entry.isExpired(System.currentTimeMillis());
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean delete(UUID publicId, String refresh) {
+        return remove(sha256Hex(refresh), publicId) != null;
+    }
+
+    @Override
+    public RotationResult rotate(UUID publicId, UUID familyId, String oldRefresh, String newRefresh, Instant expiresAt) {
+        String oldTokenHash = sha256Hex(oldRefresh);
+        if (!claimRotation(oldTokenHash)) {
+            return RotationResult.RACED;
+        }
+
+        // 기존 토큰을 제거한 스레드만 교체에 성공한다
+        Entry removed = remove(oldTokenHash, publicId);
+        if (removed != null && !removed.isExpired(System.currentTimeMillis())) {
+            put(sha256Hex(newRefresh), new Entry(publicId, familyId, expiresAt.toEpochMilli()));
+            return RotationResult.ROTATED;
+        }
+
+        String currentTokenHash = familyTokens.remove(familyId);
+        if (currentTokenHash == null) {
+            return RotationResult.NOT_FOUND;
+        }
+        remove(currentTokenHash, publicId);
+        return RotationResult.REUSED;
+    }
+
+    /**
+     * 타이머 휠을 현재 시각까지 진행하며 만료된 토큰 제거
+     */
+    @Scheduled(fixedRateString = "${jwt.refresh-store.tick:1s}")
+    public void expire() {
+        long now = System.currentTimeMillis();
+        timerWheel.advance(now, tokenHash -> removeIfExpired(tokenHash, now));
+        rotationClaims.values().removeIf(claimExpiresAt -> claimExpiresAt <= now);
+    }
+
+    // rotationGrace 안에서 같은 토큰의 첫 교체 시도만 true
+    private boolean claimRotation(String tokenHash) {
+        if (rotationGraceMillis <= 0) {
+            return true;
+        }
+        long now = System.currentTimeMillis();
+        Long fresh = now + rotationGraceMillis;
+        while (true) {
+            Long claimed = rotationClaims.putIfAbsent(tokenHash, fresh);
+            if (claimed == null) {
+                return true;
+            }
+            if (claimed > now) {
+                return false;
+            }
+            if (rotationClaims.replace(tokenHash, claimed, fresh)) {
+                return true;
+            }
+            // 다른 스레드가 먼저 교체한 경우 다시 시도
+        }
+    }
+
+    @Override
+    public boolean forEachLive(Instant now, BiConsumer<String, UUID> consumer) {
+        long nowMillis = now.toEpochMilli();
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                stripe.entries.forEach((tokenHash, entry) -> {
+                    if (!entry.isExpired(nowMillis)) {
+                        consumer.accept(tokenHash, entry.familyId());
+                    }
+                });
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return true;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.entries.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    private void put(String tokenHash, Entry entry) {
+        Stripe stripe = stripeOf(tokenHash);
+
+        stripe.lock.lock();
+        try {
+            stripe.entries.put(tokenHash, entry);
+        } finally {
+            stripe.lock.unlock();
+        }
+        if (entry.familyId() != null) {
+            familyTokens.put(entry.familyId(), tokenHash);
+        }
+        timerWheel.schedule(tokenHash, entry.expiresAtMillis());
+    }
+
+    private Entry remove(String tokenHash, UUID publicId) {
+        Stripe stripe = stripeOf(tokenHash);
+        Entry entry;
+
+        stripe.lock.lock();
+        try {
+            entry = stripe.entries.get(tokenHash);
+            if (entry == null || !entry.publicId().equals(publicId)) {
+                return null;
+            }
+            stripe.entries.remove(tokenHash);
+        } finally {
+            stripe.lock.unlock();
+        }
+        removeFamily(entry, tokenHash);
+        return entry;
+    }
+
+    private void removeIfExpired(String tokenHash, long now) {
+        Stripe stripe = stripeOf(tokenHash);
+        Entry entry;
+
+        stripe.lock.lock();
+        try {
+            entry = stripe.entries.get(tokenHash);
+            // 같은 토큰이 더 늦은 만료 시각으로 다시 저장된 경우는 남겨둔다
+            if (entry == null || !entry.isExpired(now)) {
+                return;
+            }
+            stripe.entries.remove(tokenHash);
+        } finally {
+            stripe.lock.unlock();
+        }
+        removeFamily(entry, tokenHash);
+    }
+
+    private void removeFamily(Entry entry, String tokenHash) {
+        if (entry.familyId() != null) {
+            // 이미 다음 토큰으로 교체된 패밀리는 남겨둔다
+            familyTokens.remove(entry.familyId(), tokenHash);
+        }
+    }
+
+    private Stripe stripeOf(String tokenHash) {
+        int hash = tokenHash.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<String, Entry> entries = new HashMap<>();
+    }
+
+    private record Entry(UUID publicId, UUID familyId, long expiresAtMillis) {
+        boolean isExpired(long now) {
+            return expiresAtMillis <= now;
+        }
+    }
+}
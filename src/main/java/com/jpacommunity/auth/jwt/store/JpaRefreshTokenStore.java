@@ -0,0 +1,83 @@
+package com.jpacommunity.jwt.store;
+
+import com.jpacommunity.jwt.entity.Refresh;
+import com.jpacommunity.jwt.repository.RefreshJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+import static com.jpacommunity.common.util.hash.TokenHashUtil.sha256Hex;
+
+/**
+ * p_refreshes 테이블 저장소. (public_id, token_hash) 인덱스로 조회/삭제한다.
+ */
+@RequiredArgsConstructor
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+    private final RefreshJpaRepository refreshJpaRepository;
+    private final Duration rotationGrace;
+
+    @Override
+    public void save(UUID publicId, UUID familyId, String refresh, Instant expiresAt) {
+        Refresh refreshEntity = Refresh.builder()
+                .publicId(publicId)
+                .familyId(familyId)
+                .refresh(refresh)
+                .expiresAt(expiresAt)
+                .build();
+        refreshJpaRepository.save(refreshEntity);
+    }
+
+    @Override
+    public boolean exists(UUID publicId, String refresh) {
+        return refreshJpaRepository.existsByPublicIdAndTokenHash(publicId, sha256Hex(refresh));
+    }
+
+    @Override
+    public boolean delete(UUID publicId, String refresh) {
+        return refreshJpaRepository.deleteByPublicIdAndTokenHash(publicId, sha256Hex(refresh)) > 0;
+    }
+
+    /**
+     * 교체, 경합 판별, 패밀리 폐기를 한 트랜잭션에서 처리한다.
+     * 진 요청의 UPDATE 는 이긴 요청의 커밋까지 행 잠금을 기다린 뒤 0 건이 되므로, 이어지는 조회에서 교체 기록을 볼 수 있다.
+     */
+    @Override
+    @Transactional
+    public RotationResult rotate(UUID publicId, UUID familyId, String oldRefresh, String newRefresh, Instant expiresAt) {
+        String oldTokenHash = sha256Hex(oldRefresh);
+        Instant now = Instant.now();
+        int rotated = refreshJpaRepository.rotate(publicId, oldTokenHash, sha256Hex(newRefresh), newRefresh, familyId, expiresAt, now);
+        if (rotated > 0) {
+            return RotationResult.ROTATED;
+        }
+        // 방금 다른 요청이 같은 토큰을 교체했으면 재사용이 아니므로 패밀리를 유지한다
+        if (refreshJpaRepository.existsByPublicIdAndPreviousTokenHashAndRotatedAtAfter(publicId, oldTokenHash, now.minus(rotationGrace))) {
+            return RotationResult.RACED;
+        }
+        // 제시된 토큰은 없지만 같은 패밀리가 남아 있으면 이미 교체된 토큰의 재사용
+        return refreshJpaRepository.deleteByPublicIdAndFamilyId(publicId, familyId) > 0 ? RotationResult.REUSED : RotationResult.NOT_FOUND;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean forEachLive(Instant now, BiConsumer<String, UUID> consumer) {
+        try (Stream<RefreshJpaRepository.LiveToken> liveTokens = refreshJpaRepository.streamLive(now)) {
+            Iterator<RefreshJpaRepository.LiveToken> iterator = liveTokens.iterator();
+            while (iterator.hasNext()) {
+                RefreshJpaRepository.LiveToken liveToken = iterator.next();
+                // token_hash 백필 전 행이 있으면 필터를 만들 수 없다
+                if (liveToken.getTokenHash() == null) {
+                    return false;
+                }
+                consumer.accept(liveToken.getTokenHash(), liveToken.getFamilyId());
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,25 @@
+package com.jpacommunity.jwt.store;
+
+import java.time.Duration;
+
+/**
+ * KeyValueRefreshTokenStore, KeyValueCounterStore 가 사용하는 최소한의 키-값 저장소 연산 (Redis SET EX / GET / EXISTS / DEL / INCR 에 대응)
+ * 외부 저장소 클라이언트를 빈으로 등록하면 EmbeddedKeyValueClient 대신 사용된다.
+ */
+public interface KeyValueClient {
+    void set(String key, String value, Duration ttl);
+
+    String get(String key);
+
+    boolean exists(String key);
+
+    /**
+     * 키 삭제. 동시에 같은 키를 삭제하면 한 호출만 true 를 반환해야 한다.
+     */
+    boolean delete(String key);
+
+    /**
+     * 정수 값을 원자적으로 1 증가시키고 증가된 값을 반환. 키가 없으면 0 에서 시작하며 이때만 TTL 을 설정한다.
+     */
+    long increment(String key, Duration ttl);
+}
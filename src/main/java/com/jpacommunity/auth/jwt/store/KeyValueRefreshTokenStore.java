@@ -0,0 +1,76 @@
+package com.jpacommunity.jwt.store;
+
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static com.jpacommunity.common.util.hash.TokenHashUtil.sha256Hex;
+
+/**
+ * 키-값 저장소 리프레시 토큰 저장소
+ * 키는 refresh:{publicId}:{토큰 해시} 이며 만료는 저장소의 TTL 에 맡긴다.
+ * 패밀리별 현재 토큰 키는 refresh-family:{familyId} 에 보관한다.
+ * 교체 시도는 refresh-rotating:{토큰 해시} 카운터로 먼저 선점하여, rotationGrace 안에 같은 토큰으로 온 요청은
+ * 기존 키 삭제 여부와 관계없이 경합(RACED)으로 처리한다. 선점 전에 패밀리를 폐기하는 경로가 없으므로 이긴 요청의 새 토큰은 남는다.
+ */
+@RequiredArgsConstructor
+public class KeyValueRefreshTokenStore implements RefreshTokenStore {
+    private static final String KEY_PREFIX = "refresh:";
+    private static final String FAMILY_KEY_PREFIX = "refresh-family:";
+    private static final String ROTATING_KEY_PREFIX = "refresh-rotating:";
+
+    private final KeyValueClient keyValueClient;
+    private final Duration rotationGrace;
+
+    @Override
+    public void save(UUID publicId, UUID familyId, String refresh, Instant expiresAt) {
+        Duration ttl = Duration.between(Instant.now(), expiresAt);
+        if (ttl.isNegative() || ttl.isZero()) {
+            return;
+        }
+        String key = key(publicId, refresh);
+        keyValueClient.set(key, publicId.toString(), ttl);
+        if (familyId != null) {
+            keyValueClient.set(FAMILY_KEY_PREFIX + familyId, key, ttl);
+        }
+    }
+
+    @Override
+    public boolean exists(UUID publicId, String refresh) {
+        return keyValueClient.exists(key(publicId, refresh));
+    }
+
+    @Override
+    public boolean delete(UUID publicId, String refresh) {
+        return keyValueClient.delete(key(publicId, refresh));
+    }
+
+    @Override
+    public RotationResult rotate(UUID publicId, UUID familyId, String oldRefresh, String newRefresh, Instant expiresAt) {
+        // INCR 은 원자적이므로 grace 안에서 같은 토큰의 첫 요청만 1 을 받는다
+        if (!rotationGrace.isZero() && keyValueClient.increment(ROTATING_KEY_PREFIX + sha256Hex(oldRefresh), rotationGrace) > 1) {
+            return RotationResult.RACED;
+        }
+
+        // DEL 은 원자적이므로 기존 키를 삭제한 요청만 교체에 성공한다
+        if (keyValueClient.delete(key(publicId, oldRefresh))) {
+            save(publicId, familyId, newRefresh, expiresAt);
+            return RotationResult.ROTATED;
+        }
+
+        String familyKey = FAMILY_KEY_PREFIX + familyId;
+        String currentKey = keyValueClient.get(familyKey);
+        if (currentKey == null) {
+            return RotationResult.NOT_FOUND;
+        }
+        keyValueClient.delete(currentKey);
+        keyValueClient.delete(familyKey);
+        return RotationResult.REUSED;
+    }
+
+    private String key(UUID publicId, String refresh) {
+        return KEY_PREFIX + publicId + ":" + sha256Hex(refresh);
+    }
+}
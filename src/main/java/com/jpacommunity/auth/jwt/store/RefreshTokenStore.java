@@ -0,0 +1,60 @@
+package com.jpacommunity.jwt.store;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+/**
+ * 리프레시 토큰 저장소
+ *
+ * jwt.refresh-store.type 으로 구현체를 선택한다.
+ * jpa(기본값): p_refreshes 테이블, memory: 프로세스 내 저장소, kv: 키-값 저장소 어댑터
+ */
+public interface RefreshTokenStore {
+    /**
+     * 리프레시 토큰 저장
+     *
+     * @param publicId 회원 publicId
+     * @param familyId 토큰 패밀리 ID
+     * @param refresh 리프레시 토큰
+     * @param expiresAt 만료 시각
+     */
+    void save(UUID publicId, UUID familyId, String refresh, Instant expiresAt);
+
+    /**
+     * 만료되지 않은 리프레시 토큰 존재 여부
+     */
+    boolean exists(UUID publicId, String refresh);
+
+    /**
+     * 리프레시 토큰 삭제
+     *
+     * @return 삭제 여부
+     */
+    boolean delete(UUID publicId, String refresh);
+
+    /**
+     * 기존 토큰이 저장되어 있을 때만 새 토큰으로 원자적으로 교체
+     * 기존 토큰이 rotation-grace 이내에 교체되었으면 동시 요청에서 진 것으로 보고 RACED 를 반환한다. (패밀리 유지)
+     * 그 외에 기존 토큰이 없는데 같은 패밀리의 토큰이 남아 있으면 재사용으로 보고 패밀리를 폐기한다.
+     *
+     * @param publicId 회원 publicId
+     * @param familyId 토큰 패밀리 ID
+     * @param oldRefresh 제시된 리프레시 토큰
+     * @param newRefresh 새 리프레시 토큰
+     * @param expiresAt 새 토큰 만료 시각
+     * @return 교체 결과
+     */
+    RotationResult rotate(UUID publicId, UUID familyId, String oldRefresh, String newRefresh, Instant expiresAt);
+
+    /**
+     * 만료되지 않은 모든 토큰의 해시와 패밀리 ID 조회 (RefreshTokenBloomFilter 재구성용)
+     *
+     * @param now 기준 시각
+     * @param consumer (토큰 해시, 패밀리 ID) 소비자
+     * @return 전체 조회를 지원하지 않거나 누락된 토큰이 있으면 false
+     */
+    default boolean forEachLive(Instant now, BiConsumer<String, UUID> consumer) {
+        return false;
+    }
+}
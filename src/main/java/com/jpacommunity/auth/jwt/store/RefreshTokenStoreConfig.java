@@ -0,0 +1,44 @@
+package com.jpacommunity.jwt.store;
+
+import com.jpacommunity.jwt.repository.RefreshJpaRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * jwt.refresh-store.type 에 따라 RefreshTokenStore 구현체 등록
+ */
+@Configuration
+public class RefreshTokenStoreConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "jwt.refresh-store", name = "type", havingValue = "jpa", matchIfMissing = true)
+    public RefreshTokenStore jpaRefreshTokenStore(RefreshJpaRepository refreshJpaRepository, RefreshTokenStoreProperties properties) {
+        return new JpaRefreshTokenStore(refreshJpaRepository, properties.getRotationGrace());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "jwt.refresh-store", name = "type", havingValue = "memory")
+    public InMemoryRefreshTokenStore inMemoryRefreshTokenStore(RefreshTokenStoreProperties properties) {
+        return new InMemoryRefreshTokenStore(properties.getStripes(), properties.getWheelSize(), properties.getTick().toMillis(),
+                properties.getRotationGrace());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "jwt.refresh-store", name = "type", havingValue = "kv")
+    public RefreshTokenStore keyValueRefreshTokenStore(KeyValueClient keyValueClient, RefreshTokenStoreProperties properties) {
+        return new KeyValueRefreshTokenStore(keyValueClient, properties.getRotationGrace());
+    }
+
+    /**
+     * 외부 KeyValueClient 빈이 없으면 내장 저장소를 사용한다. (리프레시 토큰 저장소, 요청 제한 카운터, 게시글 상세 분산 캐시, 토큰 폐기 저장소 중 하나라도 kv 인 경우)
+     */
+    @Bean
+    @ConditionalOnMissingBean(KeyValueClient.class)
+    @ConditionalOnExpression("'${jwt.refresh-store.type:jpa}' == 'kv' or '${rate-limit.store:memory}' == 'kv' or '${cache.post-detail.remote:none}' == 'kv' or '${jwt.token-revocation.store:memory}' == 'kv'")
+    public EmbeddedKeyValueClient embeddedKeyValueClient() {
+        return new EmbeddedKeyValueClient();
+    }
+}
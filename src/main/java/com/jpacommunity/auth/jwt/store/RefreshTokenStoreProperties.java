@@ -0,0 +1,31 @@
+package com.jpacommunity.jwt.store;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@Getter
+@ConfigurationProperties("jwt.refresh-store")
+public class RefreshTokenStoreProperties {
+    private final String type; // jpa, memory, kv
+    private final int stripes; // memory: 락 스트라이프 수 (2의 거듭제곱)
+    private final int wheelSize; // memory: 타이머 휠 슬롯 수 (2의 거듭제곱)
+    private final Duration tick; // memory: 타이머 휠 tick 간격
+    private final Duration rotationGrace; // 교체 직후 같은 토큰으로 온 요청을 재사용이 아닌 동시 요청으로 보는 시간
+
+    @ConstructorBinding
+    public RefreshTokenStoreProperties(@DefaultValue("jpa") String type,
+                                       @DefaultValue("64") int stripes,
+                                       @DefaultValue("4096") int wheelSize,
+                                       @DefaultValue("1s") Duration tick,
+                                       @DefaultValue("10s") Duration rotationGrace) {
+        this.type = type;
+        this.stripes = stripes;
+        this.wheelSize = wheelSize;
+        this.tick = tick;
+        this.rotationGrace = rotationGrace;
+    }
+}
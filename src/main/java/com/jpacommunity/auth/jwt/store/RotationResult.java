@@ -0,0 +1,11 @@
+package com.jpacommunity.jwt.store;
+
+/**
+ * 리프레시 토큰 교체 결과
+ */
+public enum RotationResult {
+    ROTATED, // 교체 성공
+    NOT_FOUND, // 저장되지 않았거나 이미 삭제된 토큰
+    REUSED, // 이미 교체된 토큰이 다시 사용됨. 같은 패밀리의 토큰이 모두 폐기되었다.
+    RACED // 같은 토큰으로 동시에 요청한 다른 요청이 먼저 교체함 (rotation-grace 이내). 패밀리는 유지된다.
+}
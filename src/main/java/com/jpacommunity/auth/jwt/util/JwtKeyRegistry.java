@@ -0,0 +1,125 @@
+package com.jpacommunity.jwt.util;
+
+import com.jpacommunity.jwt.properties.JwtProperties;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JWT 서명 키 저장소
+ *
+ * 시크릿 디코딩과 SecretKey 생성은 등록 시점에 한 번만 수행하고, 조회는 불변 스냅샷(KeySet)을 읽기만 한다.
+ * 키 교체 시에는 새 스냅샷을 만들어 volatile 필드를 교체하므로 재시작 없이 kid 별 키를 추가/활성화/삭제할 수 있다.
+ * kid 헤더가 없는 기존 토큰은 secret-key 로 등록된 DEFAULT_KEY_ID 키로 검증한다.
+ */
+@Slf4j
+@Component
+public class JwtKeyRegistry {
+    public static final String DEFAULT_KEY_ID = "default";
+
+    private volatile KeySet keySet;
+
+    public JwtKeyRegistry(JwtProperties jwtProperties) {
+        Map<String, SecretKey> keys = new HashMap<>();
+        if (jwtProperties.getSecretKey() != null) {
+            keys.put(DEFAULT_KEY_ID, toSecretKey(jwtProperties.getSecretKey()));
+        }
+        jwtProperties.getKeys().forEach((kid, secret) -> keys.put(kid, toSecretKey(secret)));
+
+        String activeKeyId = jwtProperties.getActiveKeyId() != null ? jwtProperties.getActiveKeyId() : DEFAULT_KEY_ID;
+        if (!keys.containsKey(activeKeyId)) {
+            throw new IllegalStateException("활성 JWT 키가 존재하지 않습니다. kid : " + activeKeyId);
+        }
+
+        this.keySet = new KeySet(activeKeyId, keys);
+    }
+
+    /**
+     * 토큰 서명에 사용할 키 ID
+     *
+     * @return String kid
+     */
+    public String getActiveKeyId() {
+        return keySet.activeKeyId();
+    }
+
+    /**
+     * 토큰 서명에 사용할 키
+     *
+     * @return SecretKey
+     */
+    public SecretKey getActiveKey() {
+        KeySet current = keySet;
+        return current.keys().get(current.activeKeyId());
+    }
+
+    /**
+     * kid 로 검증 키를 조회한다. kid 가 없으면 기본 키를 반환한다.
+     *
+     * @param keyId JWS 헤더의 kid
+     * @return SecretKey 또는 등록되지 않은 kid 인 경우 null
+     */
+    public SecretKey getKey(String keyId) {
+        return keySet.keys().get(keyId != null ? keyId : DEFAULT_KEY_ID);
+    }
+
+    /**
+     * 검증용 키를 등록한다. 이미 존재하는 kid 인 경우 교체한다.
+     *
+     * @param keyId kid
+     * @param secretKey Base64URL 인코딩 된 시크릿
+     */
+    public synchronized void register(String keyId, String secretKey) {
+        KeySet current = keySet;
+        Map<String, SecretKey> keys = new HashMap<>(current.keys());
+        keys.put(keyId, toSecretKey(secretKey));
+        keySet = new KeySet(current.activeKeyId(), keys);
+        log.info("JWT 키 등록 kid : {}", keyId);
+    }
+
+    /**
+     * 서명 키를 교체한다. 이전 키는 삭제 전까지 검증에 계속 사용된다.
+     *
+     * @param keyId 활성화할 kid
+     */
+    public synchronized void activate(String keyId) {
+        KeySet current = keySet;
+        if (!current.keys().containsKey(keyId)) {
+            throw new IllegalArgumentException("등록되지 않은 JWT 키 입니다. kid : " + keyId);
+        }
+        keySet = new KeySet(keyId, current.keys());
+        log.info("JWT 서명 키 교체 kid : {}", keyId);
+    }
+
+    /**
+     * 더 이상 검증에 사용하지 않을 키를 삭제한다. 활성 키는 삭제할 수 없다.
+     *
+     * @param keyId 삭제할 kid
+     */
+    public synchronized void remove(String keyId) {
+        KeySet current = keySet;
+        if (current.activeKeyId().equals(keyId)) {
+            throw new IllegalArgumentException("활성 JWT 키는 삭제할 수 없습니다. kid : " + keyId);
+        }
+        Map<String, SecretKey> keys = new HashMap<>(current.keys());
+        keys.remove(keyId);
+        keySet = new KeySet(current.activeKeyId(), keys);
+        log.info("JWT 키 삭제 kid : {}", keyId);
+    }
+
+    private static SecretKey toSecretKey(String secretKey) {
+        return Keys.hmacShaKeyFor(Decoders.BASE64URL.decode(secretKey));
+    }
+
+    private record KeySet(String activeKeyId, Map<String, SecretKey> keys) {
+        private KeySet {
+            keys = Collections.unmodifiableMap(keys);
+        }
+    }
+}
@@ -1,18 +1,21 @@
 package com.jpacommunity.jwt.util;
 
+import com.jpacommunity.jwt.domain.ParsedToken;
 import com.jpacommunity.jwt.properties.JwtProperties;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
-import lombok.AllArgsConstructor;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.security.Key;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.Date;
@@ -20,14 +23,24 @@ import java.util.Set;
 import java.util.UUID;
 
 @Component
-@AllArgsConstructor
 public class JwtProvider {
     public final static String TOKEN_CATEGORY_ACCESS = "access"; // 어세스 토큰 카테고리
     public final static String TOKEN_CATEGORY_REFRESH = "refresh"; // 리프레시 토큰 카테고리
     public final static String HEADER_AUTHORIZATION = "Authorization";
     public static final String REFRESH_TOKEN_KEY = "X-Refresh-Token";
     public final static String TOKEN_PREFIX = "Bearer ";
+    public final static String CLAIM_FAMILY_ID = "fid"; // 리프레시 토큰 패밀리 ID. 재발급 시 그대로 이어진다.
     private final JwtProperties jwtProperties;
+    private final JwtKeyRegistry jwtKeyRegistry;
+    private final JwtParser jwtParser; // 불변, thread-safe. kid 로 검증 키를 찾으므로 키 교체 시에도 재생성하지 않는다.
+
+    public JwtProvider(JwtProperties jwtProperties, JwtKeyRegistry jwtKeyRegistry) {
+        this.jwtProperties = jwtProperties;
+        this.jwtKeyRegistry = jwtKeyRegistry;
+        this.jwtParser = Jwts.parser()
+                .keyLocator(new KeyIdLocator(jwtKeyRegistry))
+                .build();
+    }
 
     /**
      * 토큰 발급
@@ -39,7 +52,22 @@ public class JwtProvider {
      */
     public String generateToken(String category, Duration duration, UUID publicId, String role, String status) {
         Date now = new Date();
-        return makeToken(category, new Date(now.getTime() + duration.toMillis()), publicId, role, status);
+        return makeToken(category, new Date(now.getTime() + duration.toMillis()), publicId, role, status, null);
+    }
+
+    /**
+     * 패밀리 ID 를 포함한 리프레시 토큰 발급
+     * 같은 로그인에서 재발급된 리프레시 토큰은 모두 같은 패밀리 ID 를 가진다.
+     *
+     * @param duration Duration 만료 기간
+     * @param publicId UUID
+     * @param role     String
+     * @param familyId UUID 토큰 패밀리 ID
+     * @return String
+     */
+    public String generateRefreshToken(Duration duration, UUID publicId, String role, String status, UUID familyId) {
+        Date now = new Date();
+        return makeToken(TOKEN_CATEGORY_REFRESH, new Date(now.getTime() + duration.toMillis()), publicId, role, status, familyId);
     }
 
     /**
@@ -48,18 +76,25 @@ public class JwtProvider {
      * @param expirationDate 만료 기간
      * @param publicId publicId
      * @param role 권한
+     * @param familyId 리프레시 토큰 패밀리 ID (없으면 null)
      * @return
      */
-    private String makeToken(String category, Date expirationDate, UUID publicId, String role, String status) {
-        return Jwts.builder()
+    private String makeToken(String category, Date expirationDate, UUID publicId, String role, String status, UUID familyId) {
+        JwtBuilder builder = Jwts.builder()
+                .header().keyId(jwtKeyRegistry.getActiveKeyId()).and()
                 .issuer(jwtProperties.getIssuer())
+                .id(UUID.randomUUID().toString()) // 같은 초에 발급된 토큰도 서로 달라야 교체 전후 토큰을 구분할 수 있다
                 .issuedAt(new Date())
                 .expiration(expirationDate)
                 .claim("category", category)
                 .claim("id", publicId)
                 .claim("role", role)
-                .claim("status", status)
-                .signWith(getSigningKey())
+                .claim("status", status);
+        if (familyId != null) {
+            builder.claim(CLAIM_FAMILY_ID, familyId.toString());
+        }
+        return builder
+                .signWith(jwtKeyRegistry.getActiveKey())
                 .compact();
     }
 
@@ -78,6 +113,27 @@ public class JwtProvider {
         }
     }
 
+    /**
+     * 토큰을 한 번 검증하고 클레임을 추출
+     * 서명이 올바르지 않거나 만료된 토큰이면 JwtException 을 던진다.
+     *
+     * @param token String
+     * @return ParsedToken
+     */
+    public ParsedToken parse(final String token) {
+        Claims claims = getClaims(token);
+        String familyId = claims.get(CLAIM_FAMILY_ID, String.class);
+        return new ParsedToken(
+                claims.get("category", String.class),
+                UUID.fromString(claims.get("id", String.class)),
+                claims.get("role", String.class),
+                claims.get("status", String.class),
+                claims.getExpiration(),
+                familyId != null ? UUID.fromString(familyId) : null,
+                claims.getIssuedAt()
+        );
+    }
+
     /**
      * 토큰으로부터 Authentication 객체를 가져옴
      *
@@ -133,17 +189,16 @@ public class JwtProvider {
      * @return Claims
      */
     private Claims getClaims(String token) {
-        Jws<Claims> claimsJws = Jwts.parser().verifyWith(getSigningKey()).build().parseSignedClaims(token);
-        return claimsJws.getPayload();
+        return jwtParser.parseSignedClaims(token).getPayload();
     }
 
     /**
-     * 서명 키 생성
+     * 현재 서명 키 조회
      *
      * @return SecretKey
      */
     public SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(Decoders.BASE64URL.decode(jwtProperties.getSecretKey()));
+        return jwtKeyRegistry.getActiveKey();
     }
 
     /**
@@ -178,6 +233,26 @@ public class JwtProvider {
      */
     public Boolean isExpired(String token) {
         // throws JwtException, IllegalArgumentException
-        return Jwts.parser().verifyWith(getSigningKey()).build().parseSignedClaims(token).getPayload().getExpiration().before(new Date());
+        return getClaims(token).getExpiration().before(new Date());
+    }
+
+    /**
+     * JWS 헤더의 kid 로 검증 키를 찾는다.
+     */
+    private static class KeyIdLocator extends LocatorAdapter<Key> {
+        private final JwtKeyRegistry jwtKeyRegistry;
+
+        private KeyIdLocator(JwtKeyRegistry jwtKeyRegistry) {
+            this.jwtKeyRegistry = jwtKeyRegistry;
+        }
+
+        @Override
+        protected Key locate(JwsHeader header) {
+            SecretKey key = jwtKeyRegistry.getKey(header.getKeyId());
+            if (key == null) {
+                throw new UnsupportedJwtException("등록되지 않은 JWT 키 입니다. kid : " + header.getKeyId());
+            }
+            return key;
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,83 @@
+package com.jpacommunity.auth.security.cache;
+
+import com.jpacommunity.jwt.store.EmbeddedKeyValueClient;
+import com.jpacommunity.jwt.store.KeyValueClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 회원별 토큰 폐기 시각 (요청마다 확인하는 빠른 경로)
+ *
+ * 권한이나 상태가 바뀌면 그 시각 이전에 발급된 액세스 토큰은 클레임이 남아 있어도 거절한다.
+ * 캐시 항목을 지우는 것만으로는 다음 요청이 같은 토큰의 이전 클레임을 다시 캐시하므로, 캐시 히트와 서명 검증 모두에서 이 시각을 확인한다.
+ * 기준 값은 Member.tokensValidAfter 에 저장되고 재발급(ReIssueService)은 DB 값을 확인한다.
+ * 저장소는 jwt.token-revocation.store 로 정하며 memory 이면 변경을 처리한 인스턴스에서만 즉시 적용된다. (TokenRevocationConfig)
+ */
+@Slf4j
+public class MemberTokenRevocations {
+    // 리프레시 토큰 수명. 이 시간이 지나면 폐기 이전 토큰은 모두 만료되어 있다.
+    private static final Duration RETENTION = Duration.ofHours(24);
+    private static final String KEY_PREFIX = "token-revoked:";
+
+    private final KeyValueClient keyValueClient;
+    private final Clock clock;
+
+    public MemberTokenRevocations(KeyValueClient keyValueClient) {
+        this(keyValueClient, Clock.systemUTC());
+    }
+
+    MemberTokenRevocations(KeyValueClient keyValueClient, Clock clock) {
+        this.keyValueClient = keyValueClient;
+        this.clock = clock;
+    }
+
+    /**
+     * 회원의 기존 토큰 폐기. 트랜잭션 안이면 커밋 후에, 아니면 바로 기록한다.
+     *
+     * @param publicId 회원 publicId
+     */
+    public void revokeAfterCommit(UUID publicId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    revoke(publicId);
+                }
+            });
+        } else {
+            revoke(publicId);
+        }
+    }
+
+    public void revoke(UUID publicId) {
+        long revokedAt = clock.millis() / 1000;
+        keyValueClient.set(KEY_PREFIX + publicId, String.valueOf(revokedAt), RETENTION);
+        log.debug("회원 토큰 폐기 publicId: {}, revokedAt: {}", publicId, revokedAt);
+    }
+
+    /**
+     * 폐기 시각 이전에 발급된 토큰인지 확인
+     * iat 는 초 단위이므로 폐기와 같은 초에 발급된 토큰도 폐기된 것으로 본다.
+     *
+     * @param publicId 회원 publicId
+     * @param issuedAtMillis 토큰 발급 시각
+     */
+    public boolean isRevoked(UUID publicId, long issuedAtMillis) {
+        String revokedAt = keyValueClient.get(KEY_PREFIX + publicId);
+        return revokedAt != null && issuedAtMillis / 1000 <= Long.parseLong(revokedAt);
+    }
+
+    // memory 저장소는 빈으로 등록되지 않으므로 만료된 키를 여기서 정리한다
+    @Scheduled(fixedDelay = 60000) // 1분마다 실행
+    public void evictExpired() {
+        if (keyValueClient instanceof EmbeddedKeyValueClient embedded) {
+            embedded.evictExpired();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.jpacommunity.auth.security.cache;
+
+import com.jpacommunity.jwt.store.EmbeddedKeyValueClient;
+import com.jpacommunity.jwt.store.KeyValueClient;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * jwt.token-revocation.store 에 따라 MemberTokenRevocations 저장소 선택 (요청 제한 카운터와 별도)
+ *
+ * memory: 프로세스 내 저장소. 다른 인스턴스의 액세스 토큰은 만료(10분)될 때까지 통과하고, 재발급은 DB 값으로 막힌다.
+ * kv: 공유 키-값 저장소. 모든 인스턴스가 같은 폐기 시각을 본다.
+ */
+@Configuration
+public class TokenRevocationConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "jwt.token-revocation", name = "store", havingValue = "memory", matchIfMissing = true)
+    public MemberTokenRevocations inMemoryMemberTokenRevocations() {
+        return new MemberTokenRevocations(new EmbeddedKeyValueClient());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "jwt.token-revocation", name = "store", havingValue = "kv")
+    public MemberTokenRevocations keyValueMemberTokenRevocations(KeyValueClient keyValueClient) {
+        return new MemberTokenRevocations(keyValueClient);
+    }
+}
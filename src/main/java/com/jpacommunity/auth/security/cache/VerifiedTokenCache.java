@@ -0,0 +1,92 @@
+package com.jpacommunity.auth.security.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.jpacommunity.security.dto.TokenPrincipal;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import static com.jpacommunity.common.util.hash.TokenHashUtil.sha256Hex;
+
+/**
+ * 서명 검증을 마친 어세스 토큰의 인증 주체 캐시
+ *
+ * 키는 토큰 원문이 아닌 SHA-256 해시이며, 각 항목은 토큰의 exp 시각에 만료된다.
+ * jwt.verified-token-cache.enabled=false(기본값) 이면 조회는 항상 miss, 저장은 무시된다.
+ * 히트/미스 수치는 cache.gets{cache=verifiedTokenCache} 메트릭으로 노출된다.
+ * 캐시된 클레임은 권한/상태 변경을 반영하지 않으므로, 사용하는 쪽에서 매번 MemberTokenRevocations 로 폐기 여부를 확인해야 한다.
+ */
+@Component
+public class VerifiedTokenCache {
+    public static final String CACHE_NAME = "verifiedTokenCache";
+
+    private final boolean enabled;
+    private final Cache<String, VerifiedPrincipal> cache;
+
+    public VerifiedTokenCache(VerifiedTokenCacheProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 검증된 인증 주체 조회
+     *
+     * @param token 어세스 토큰
+     * @return 캐시된 인증 주체, 없으면 null
+     */
+    public VerifiedPrincipal get(String token) {
+        if (!enabled) {
+            return null;
+        }
+        return cache.getIfPresent(sha256Hex(token));
+    }
+
+    /**
+     * 검증된 인증 주체 저장. 토큰 만료 시각까지 유지된다.
+     *
+     * @param token 어세스 토큰
+     * @param principal 토큰 클레임으로 만든 인증 주체
+     * @param issuedAt 토큰 발급 시각 (MemberTokenRevocations 확인용)
+     * @param expiration 토큰 만료 시각
+     */
+    public void put(String token, TokenPrincipal principal, Date issuedAt, Date expiration) {
+        if (!enabled) {
+            return;
+        }
+        cache.put(sha256Hex(token), new VerifiedPrincipal(principal, issuedAt.getTime(), expiration.getTime()));
+    }
+
+    public record VerifiedPrincipal(TokenPrincipal principal, long issuedAtMillis, long expiresAtMillis) {
+    }
+
+    /**
+     * 항목별 만료 시간을 토큰의 exp 로 설정
+     */
+    private static class TokenExpiry implements Expiry<String, VerifiedPrincipal> {
+        @Override
+        public long expireAfterCreate(String key, VerifiedPrincipal value, long currentTime) {
+            long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedPrincipal value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedPrincipal value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
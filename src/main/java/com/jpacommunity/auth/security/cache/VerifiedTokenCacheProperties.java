@@ -0,0 +1,20 @@
+package com.jpacommunity.auth.security.cache;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@Getter
+@ConfigurationProperties("jwt.verified-token-cache")
+public class VerifiedTokenCacheProperties {
+    private final boolean enabled;
+    private final long maximumSize;
+
+    @ConstructorBinding
+    public VerifiedTokenCacheProperties(@DefaultValue("false") boolean enabled,
+                                        @DefaultValue("10000") long maximumSize) {
+        this.enabled = enabled;
+        this.maximumSize = maximumSize;
+    }
+}
@@ -1,16 +1,24 @@
 package com.jpacommunity.auth.security.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jpacommunity.auth.oauth2.handler.OAuth2LoginFailureHandler;
+import com.jpacommunity.auth.security.cache.MemberTokenRevocations;
+import com.jpacommunity.auth.security.cache.VerifiedTokenCache;
+import com.jpacommunity.auth.security.crypto.AdaptiveBCryptPasswordEncoder;
+import com.jpacommunity.auth.security.crypto.PasswordHashingProperties;
 import com.jpacommunity.auth.oauth2.service.CustomOAuth2UserService;
 import com.jpacommunity.auth.security.filter.AuthenticationEntryPointHandler;
 import com.jpacommunity.auth.security.filter.CustomAccessDeniedHandler;
 import com.jpacommunity.auth.security.filter.JwtAuthenticationFilter;
 import com.jpacommunity.auth.security.filter.TokenAuthenticationFilter;
-import com.jpacommunity.jwt.repository.RefreshJpaRepository;
+import com.jpacommunity.global.ratelimit.LoginThrottle;
+import com.jpacommunity.jwt.bloom.RefreshTokenBloomFilter;
+import com.jpacommunity.jwt.store.RefreshTokenStore;
 import com.jpacommunity.jwt.util.JwtProvider;
 import com.jpacommunity.oauth2.handler.CustomOauth2SuccessHandler;
 import com.jpacommunity.security.handler.LogoutSuccessHandler;
 import com.jpacommunity.security.service.CustomUserDetailsService;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -47,17 +55,27 @@ public class SecurityConfig {
 
     @Value("${FRONT_URL:http://localhost:3000}")
     private String frontUrl;
+    @Value("${login.max-body-bytes:4096}")
+    private int loginMaxBodyBytes;
     private final JwtProvider jwtProvider;
     private final CustomUserDetailsService customUserDetailsService;
     private final CustomOAuth2UserService customOAuth2UserService;
     private final CustomOauth2SuccessHandler customOauth2SuccessHandler;
     private final OAuth2LoginFailureHandler oAuth2LoginFailureHandler;
-    private final RefreshJpaRepository refreshJpaRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final RefreshTokenBloomFilter refreshTokenBloomFilter;
+    private final ObjectMapper objectMapper;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final MemberTokenRevocations memberTokenRevocations;
+    private final PasswordHashingProperties passwordHashingProperties;
+    private final MeterRegistry meterRegistry;
+    private final LoginThrottle loginThrottle;
 
     @Bean
     public BCryptPasswordEncoder passwordEncoder() {
         log.debug("BCryptPasswordEncoder 빈 등록됨");
-        return new BCryptPasswordEncoder();
+        // 해싱은 전용 스레드 풀에서 실행, cost 는 기동 시 목표 해시 시간에 맞춰 결정
+        return AdaptiveBCryptPasswordEncoder.create(passwordHashingProperties, meterRegistry);
     }
 
     @Bean
@@ -112,10 +130,10 @@ public class SecurityConfig {
 
         http
                 .addFilterAt(
-                        new JwtAuthenticationFilter(authenticationManager(), jwtProvider, refreshJpaRepository),
+                        new JwtAuthenticationFilter(authenticationManager(), jwtProvider, refreshTokenStore, objectMapper, loginMaxBodyBytes, loginThrottle),
                         UsernamePasswordAuthenticationFilter.class
                 ) // 로그인 인증 필터
-                .addFilterAfter(new TokenAuthenticationFilter(jwtProvider), JwtAuthenticationFilter.class);
+                .addFilterAfter(new TokenAuthenticationFilter(jwtProvider, verifiedTokenCache, memberTokenRevocations), JwtAuthenticationFilter.class);
 
         // .addFilterBefore(new JWTFilter(jwtUtil), LoginFilter.class); // JWTFilter 가 먼저 실행되고 LoginFilter 가 실행됨
         // .addFilterAfter(new JWTFilter(jwtUtil), LoginFilter.class); // LoginFilter 가 먼저 실행되고 JWTFilter 가 실행됨
@@ -144,6 +162,7 @@ public class SecurityConfig {
                     .requestMatchers(HttpMethod.GET, "/api/members/type/**").permitAll()
                     .requestMatchers(HttpMethod.GET, "/api/categories/**").permitAll()
                     .requestMatchers(HttpMethod.PUT, "/api/categories/**").hasAnyAuthority(ADMIN.name())
+                    .requestMatchers(HttpMethod.PATCH, "/api/categories/**").hasAnyAuthority(ADMIN.name())
                     .requestMatchers(HttpMethod.DELETE, "/api/categories/**").hasAnyAuthority(ADMIN.name())
                     .requestMatchers(HttpMethod.POST, "/api/categories").hasAnyAuthority(ADMIN.name())
 
@@ -165,7 +184,7 @@ public class SecurityConfig {
             .logout(logout -> logout
             .logoutUrl("/logout")
             .invalidateHttpSession(true)
-            .logoutSuccessHandler(new LogoutSuccessHandler(jwtProvider, refreshJpaRepository))
+            .logoutSuccessHandler(new LogoutSuccessHandler(jwtProvider, refreshTokenStore, refreshTokenBloomFilter))
             .permitAll());
 
         return http.build();
@@ -176,6 +195,8 @@ public class SecurityConfig {
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
         provider.setPasswordEncoder(passwordEncoder());
         provider.setUserDetailsService(customUserDetailsService);
+        // 저장된 해시의 cost 가 현재 설정과 다르면 로그인 성공 시 다시 저장
+        provider.setUserDetailsPasswordService(customUserDetailsService);
         return new ProviderManager(provider);
     }
 
@@ -0,0 +1,150 @@
+package com.jpacommunity.auth.security.crypto;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 전용 스레드 풀에서 BCrypt 를 실행하는 PasswordEncoder
+ *
+ * 로그인이 몰려도 해싱은 고정 크기 스레드 풀과 제한된 대기열에서만 실행되므로 톰캣 요청 스레드를 모두 점유하지 않는다.
+ * 대기열이 가득 차면 기다리지 않고 PasswordHashingBusyException 을 던진다.
+ * cost 는 기동 시 targetHashTime 에 맞춰 정하며, 저장된 해시의 cost 가 더 낮으면 upgradeEncoding 이 true 를 반환하여
+ * 로그인 성공 시 DaoAuthenticationProvider 가 UserDetailsPasswordService 로 다시 저장한다.
+ */
+@Slf4j
+public class AdaptiveBCryptPasswordEncoder extends BCryptPasswordEncoder implements DisposableBean {
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("\\A\\$2([ayb])?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}");
+
+    private final int strength;
+    private final ExecutorService executor;
+    private final ThreadPoolExecutor threadPoolExecutor;
+    private final long timeoutMillis;
+
+    public AdaptiveBCryptPasswordEncoder(int strength, int threads, int queueCapacity, Duration timeout, MeterRegistry meterRegistry) {
+        super(strength);
+        this.strength = strength;
+        this.timeoutMillis = timeout.toMillis();
+        this.threadPoolExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new HashingThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, threadPoolExecutor, "passwordHashing");
+    }
+
+    /**
+     * 설정의 목표 해시 시간으로 cost 를 정해 생성
+     */
+    public static AdaptiveBCryptPasswordEncoder create(PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        int strength = calibrate(properties.getTargetHashTime(), properties.getMinStrength(), properties.getMaxStrength());
+        log.info("BCrypt cost 결정: {} (목표 {}ms, 스레드 {}, 대기열 {})",
+                strength, properties.getTargetHashTime().toMillis(), properties.getThreads(), properties.getQueueCapacity());
+        return new AdaptiveBCryptPasswordEncoder(strength, properties.getThreads(), properties.getQueueCapacity(),
+                properties.getTimeout(), meterRegistry);
+    }
+
+    /**
+     * minStrength 로 해시 시간을 측정하고, cost 가 1 오를 때마다 시간이 두 배가 되는 것으로 보고
+     * 목표 시간을 넘지 않는 가장 큰 cost 를 고른다.
+     */
+    static int calibrate(Duration targetHashTime, int minStrength, int maxStrength) {
+        String salt = BCrypt.gensalt(minStrength);
+        BCrypt.hashpw("calibration", salt); // 워밍업
+
+        long bestNanos = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long start = System.nanoTime();
+            BCrypt.hashpw("calibration", salt);
+            bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+        }
+
+        long targetNanos = targetHashTime.toNanos();
+        int strength = minStrength;
+        long estimatedNanos = bestNanos;
+        while (strength < maxStrength && estimatedNanos * 2 <= targetNanos) {
+            estimatedNanos *= 2;
+            strength++;
+        }
+        return strength;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> super.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> super.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 저장된 해시의 cost 가 현재 cost 보다 낮으면 true
+     * 기동마다 측정값이 달라 cost 가 내려갈 수 있으므로, 더 높은 cost 의 해시를 낮추어 다시 저장하지는 않는다.
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_PATTERN.matcher(encodedPassword);
+        if (!matcher.matches()) {
+            return false;
+        }
+        return Integer.parseInt(matcher.group(2)) < strength;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    @Override
+    public void destroy() {
+        threadPoolExecutor.shutdown();
+    }
+
+    // 해싱 스레드 풀에서 실행. 테스트에서 풀을 점유하기 위해 package-private
+    <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new PasswordHashingBusyException("비밀번호 해싱 대기열이 가득 찼습니다", e);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new PasswordHashingBusyException("비밀번호 해싱 대기 시간을 초과했습니다", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new PasswordHashingBusyException("비밀번호 해싱이 중단되었습니다", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private static class HashingThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.jpacommunity.auth.security.crypto;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/**
+ * 비밀번호 해싱 대기열이 가득 찼거나 제한 시간 안에 끝나지 않은 경우
+ * JwtAuthenticationFilter 는 이 예외를 503 으로 응답한다.
+ */
+public class PasswordHashingBusyException extends AuthenticationServiceException {
+    public PasswordHashingBusyException(String msg) {
+        super(msg);
+    }
+
+    public PasswordHashingBusyException(String msg, Throwable cause) {
+        super(msg, cause);
+    }
+}
@@ -0,0 +1,34 @@
+package com.jpacommunity.auth.security.crypto;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@Getter
+@ConfigurationProperties("security.password-hashing")
+public class PasswordHashingProperties {
+    private final int threads; // 해싱 전용 스레드 수. 0 이면 CPU 코어 수
+    private final int queueCapacity; // 대기열 크기. 가득 차면 즉시 503
+    private final Duration timeout; // 해싱 결과 대기 최대 시간
+    private final Duration targetHashTime; // 해시 1회 목표 시간. 기동 시 이 시간에 맞춰 cost 를 정한다
+    private final int minStrength;
+    private final int maxStrength;
+
+    @ConstructorBinding
+    public PasswordHashingProperties(@DefaultValue("0") int threads,
+                                     @DefaultValue("64") int queueCapacity,
+                                     @DefaultValue("5s") Duration timeout,
+                                     @DefaultValue("100ms") Duration targetHashTime,
+                                     @DefaultValue("10") int minStrength,
+                                     @DefaultValue("14") int maxStrength) {
+        this.threads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.queueCapacity = queueCapacity;
+        this.timeout = timeout;
+        this.targetHashTime = targetHashTime;
+        this.minStrength = minStrength;
+        this.maxStrength = maxStrength;
+    }
+}
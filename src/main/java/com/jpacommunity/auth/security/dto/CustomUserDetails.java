@@ -1,51 +1,61 @@
 package com.jpacommunity.security.dto;
 
+import com.jpacommunity.member.domain.MemberRole;
+import com.jpacommunity.member.domain.MemberStatus;
+import com.jpacommunity.member.dto.get.MemberAuthView;
 import com.jpacommunity.member.entity.Member;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.userdetails.UserDetails;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.UUID;
 
-public class CustomUserDetails implements UserDetails {
+public class CustomUserDetails implements MemberPrincipal {
 
-    private final Member member;
+    private final String email;
+    private final String password;
+    private final MemberRole role;
+    private final UUID publicId;
+    private final MemberStatus status;
 
     public CustomUserDetails(Member member) {
-        this.member = member;
+        this(member.getEmail(), member.getPassword(), member.getRole(), member.getPublicId(), member.getStatus());
     }
 
+    public CustomUserDetails(MemberAuthView member) {
+        this(member.email(), member.password(), member.role(), member.publicId(), member.status());
+    }
 
-    @Override
-    public Collection<? extends GrantedAuthority> getAuthorities() {
-        Collection<GrantedAuthority> collection = new ArrayList<>();
+    private CustomUserDetails(String email, String password, MemberRole role, UUID publicId, MemberStatus status) {
+        this.email = email;
+        this.password = password;
+        this.role = role;
+        this.publicId = publicId;
+        this.status = status;
+    }
 
-        collection.add(new GrantedAuthority() {
-            @Override
-            public String getAuthority() {
-                return member.getRole().toString();
-            }
-        });
 
-        return collection;
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return MemberAuthorities.of(role);
     }
 
     @Override
     public String getPassword() {
-        return member.getPassword();
+        return password;
     }
 
     @Override
     public String getUsername() {
-        return member.getEmail();
+        return email;
     }
 
+    @Override
     public UUID getPublicId() {
-        return member.getPublicId();
+        return publicId;
     }
 
-    public String getStatus() {return member.getStatus().name(); }
+    @Override
+    public String getStatus() {return status.name(); }
 
     @Override
     public boolean isAccountNonExpired() {
@@ -0,0 +1,7 @@
+package com.jpacommunity.security.dto;
+
+/**
+ * 일반 로그인 요청 본문 ({"username": "...", "password": "..."})
+ */
+public record LoginRequest(String username, String password) {
+}
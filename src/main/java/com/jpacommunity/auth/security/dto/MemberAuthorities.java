@@ -0,0 +1,46 @@
+package com.jpacommunity.security.dto;
+
+import com.jpacommunity.member.domain.MemberRole;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * MemberRole 별로 미리 만들어 둔 공유 권한 목록
+ * 권한 문자열은 기존과 같이 역할 이름(USER, ADMIN) 그대로 사용한다.
+ */
+public final class MemberAuthorities {
+    private static final Map<String, List<GrantedAuthority>> AUTHORITIES = Arrays.stream(MemberRole.values())
+            .collect(Collectors.toUnmodifiableMap(Enum::name, MemberAuthorities::create));
+
+    private MemberAuthorities() {
+    }
+
+    public static List<GrantedAuthority> of(MemberRole role) {
+        return of(role.name());
+    }
+
+    /**
+     * 역할 이름으로 공유 권한 목록 조회
+     *
+     * @param role 역할 이름
+     * @return 변경 불가능한 권한 목록
+     * @throws IllegalArgumentException 존재하지 않는 역할인 경우
+     */
+    public static List<GrantedAuthority> of(String role) {
+        List<GrantedAuthority> authorities = role == null ? null : AUTHORITIES.get(role);
+        if (authorities == null) {
+            throw new IllegalArgumentException("알 수 없는 권한입니다: " + role);
+        }
+        return authorities;
+    }
+
+    private static List<GrantedAuthority> create(MemberRole role) {
+        return List.of(new SimpleGrantedAuthority(role.name()));
+    }
+}
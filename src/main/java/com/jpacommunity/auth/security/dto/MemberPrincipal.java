@@ -0,0 +1,17 @@
+package com.jpacommunity.security.dto;
+
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.UUID;
+
+/**
+ * 인증된 회원 주체
+ *
+ * 폼 로그인(CustomUserDetails)과 토큰 인증(TokenPrincipal) 모두 이 타입으로 SecurityContext 에 저장되므로
+ * @AuthenticationPrincipal 과 AuditorAware 는 이 인터페이스로 주체를 받는다.
+ */
+public interface MemberPrincipal extends UserDetails {
+    UUID getPublicId();
+
+    String getStatus();
+}
@@ -0,0 +1,59 @@
+package com.jpacommunity.security.dto;
+
+import com.jpacommunity.member.domain.MemberStatus;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 어세스 토큰의 클레임으로 만든 불변 인증 주체
+ *
+ * 요청마다 Member 엔티티를 만들지 않고 토큰의 publicId, 상태와 공유 권한 목록만 보관한다.
+ * 토큰 인증은 비밀번호를 사용하지 않으므로 getPassword 는 null 을 반환한다.
+ */
+public record TokenPrincipal(UUID publicId, String status, List<GrantedAuthority> authorities) implements MemberPrincipal {
+    private static final Set<String> STATUSES = Arrays.stream(MemberStatus.values())
+            .map(Enum::name)
+            .collect(Collectors.toUnmodifiableSet());
+
+    /**
+     * 토큰 클레임으로 인증 주체 생성
+     *
+     * @throws IllegalArgumentException 알 수 없는 권한 또는 상태인 경우
+     */
+    public static TokenPrincipal of(UUID publicId, String role, String status) {
+        if (!STATUSES.contains(status)) {
+            throw new IllegalArgumentException("알 수 없는 회원 상태입니다: " + status);
+        }
+        return new TokenPrincipal(publicId, status, MemberAuthorities.of(role));
+    }
+
+    @Override
+    public UUID getPublicId() {
+        return publicId;
+    }
+
+    @Override
+    public String getStatus() {
+        return status;
+    }
+
+    @Override
+    public List<GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return publicId.toString();
+    }
+}
@@ -1,17 +1,23 @@
 package com.jpacommunity.auth.security.filter;
 
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jpacommunity.auth.security.crypto.PasswordHashingBusyException;
 import com.jpacommunity.global.exception.ErrorCode;
 import com.jpacommunity.global.exception.JpaCommunityException;
-import com.jpacommunity.jwt.entity.Refresh;
-import com.jpacommunity.jwt.repository.RefreshJpaRepository;
+import com.jpacommunity.global.ratelimit.LoginThrottle;
+import com.jpacommunity.jwt.store.RefreshTokenStore;
 import com.jpacommunity.jwt.util.JwtProvider;
 import com.jpacommunity.security.dto.CustomUserDetails;
+import com.jpacommunity.security.dto.LoginRequest;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.InternalAuthenticationServiceException;
@@ -25,10 +31,14 @@ import java.io.IOException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.*;
 
 import static com.jpacommunity.common.util.cookie.CookieUtil.createCookie;
 import static com.jpacommunity.global.exception.ErrorCode.IO_EXCEPTION;
+import static com.jpacommunity.global.exception.ErrorCode.PAYLOAD_TOO_LARGE;
+import static com.jpacommunity.global.exception.ErrorCode.SERVICE_UNAVAILABLE;
+import static com.jpacommunity.global.exception.ErrorCode.TOO_MANY_REQUESTS;
 import static com.jpacommunity.jwt.controller.ReIssueController.LOGOUT_PATH;
 import static com.jpacommunity.jwt.controller.ReIssueController.TOKEN_REISSUE_PATH;
 import static com.jpacommunity.jwt.util.JwtProvider.*;
@@ -42,29 +52,57 @@ import static com.jpacommunity.member.domain.MemberStatus.*;
 public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilter {
     private final AuthenticationManager authenticationManager;
     private final JwtProvider jwtProvider;
-    private final RefreshJpaRepository refreshJpaRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final ObjectMapper objectMapper; // 애플리케이션 공용 ObjectMapper
+    private final int maxBodyBytes; // 로그인 요청 본문 최대 크기
+    private final LoginThrottle loginThrottle; // IP, 계정별 로그인 시도 제한
 
-    public JwtAuthenticationFilter(AuthenticationManager authenticationManager, JwtProvider jwtProvider, RefreshJpaRepository refreshJpaRepository) {
+    public JwtAuthenticationFilter(AuthenticationManager authenticationManager, JwtProvider jwtProvider, RefreshTokenStore refreshTokenStore,
+                                   ObjectMapper objectMapper, int maxBodyBytes, LoginThrottle loginThrottle) {
         setFilterProcessesUrl("/login");
         this.authenticationManager = authenticationManager;
         this.jwtProvider = jwtProvider;
-        this.refreshJpaRepository = refreshJpaRepository;
+        this.refreshTokenStore = refreshTokenStore;
+        this.objectMapper = objectMapper;
+        this.maxBodyBytes = maxBodyBytes;
+        this.loginThrottle = loginThrottle;
     }
 
     @Override
     public Authentication attemptAuthentication(HttpServletRequest request, HttpServletResponse response) throws AuthenticationException {
         try {
+            // IP 기준 시도 제한. 본문을 읽거나 BCrypt 를 실행하기 전에 차단한다.
+            long retryAfterSeconds = loginThrottle.tryAcquireIp(request.getRemoteAddr());
+            if (retryAfterSeconds > 0) {
+                sendTooManyRequests(response, retryAfterSeconds);
+                return null;
+            }
+
+            // 본문 크기 제한. Content-Length 가 없어도 최대 크기 + 1 byte 까지만 읽는다.
+            if (request.getContentLengthLong() > maxBodyBytes) {
+                sendErrorResponse(response, PAYLOAD_TOO_LARGE.getStatus(), PAYLOAD_TOO_LARGE.getMsg());
+                return null;
+            }
+            byte[] body = request.getInputStream().readNBytes(maxBodyBytes + 1);
+            if (body.length > maxBodyBytes) {
+                sendErrorResponse(response, PAYLOAD_TOO_LARGE.getStatus(), PAYLOAD_TOO_LARGE.getMsg());
+                return null;
+            }
+
             // JSON 요청 본문에서 username과 password 추출
-            ObjectMapper objectMapper = new ObjectMapper();
-            Map<String, String> credentials = objectMapper.readValue(request.getInputStream(), Map.class);
+            LoginRequest loginRequest = readLoginRequest(body);
 
-            String username = credentials.get("username");
-            String password = credentials.get("password");
+            log.info("로그인 요청 - username: {}", loginRequest.username());
 
-            log.info("로그인 요청 - username: {}, password: {}", username, password);
+            // 계정 기준 시도 제한
+            retryAfterSeconds = loginThrottle.tryAcquireUsername(loginRequest.username());
+            if (retryAfterSeconds > 0) {
+                sendTooManyRequests(response, retryAfterSeconds);
+                return null;
+            }
 
             UsernamePasswordAuthenticationToken authToken =
-                    new UsernamePasswordAuthenticationToken(username, password);
+                    new UsernamePasswordAuthenticationToken(loginRequest.username(), loginRequest.password());
 
             return authenticationManager.authenticate(authToken);
         } catch (IOException e) {
@@ -73,6 +111,36 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
         }
     }
 
+    /**
+     * 최상위 객체의 username, password 문자열만 읽고 나머지 필드는 건너뛴다.
+     *
+     * @param body 요청 본문
+     * @return LoginRequest
+     * @throws IOException JSON 형식이 아닌 경우
+     */
+    private LoginRequest readLoginRequest(byte[] body) throws IOException {
+        String username = null;
+        String password = null;
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "로그인 요청은 JSON 객체여야 합니다");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("username".equals(fieldName) && value == JsonToken.VALUE_STRING) {
+                    username = parser.getText();
+                } else if ("password".equals(fieldName) && value == JsonToken.VALUE_STRING) {
+                    password = parser.getText();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return new LoginRequest(username, password);
+    }
+
     @Override
     protected void successfulAuthentication(HttpServletRequest request, HttpServletResponse response, FilterChain chain, Authentication authentication) throws IOException, ServletException {
         try {
@@ -116,7 +184,9 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
             // Authorization
             String accessToken = jwtProvider.generateToken(TOKEN_CATEGORY_ACCESS, Duration.ofMinutes(10), publicId, role, status);
             // X-Refresh-Token
-            String refreshToken = jwtProvider.generateToken(TOKEN_CATEGORY_REFRESH, Duration.ofDays(1), publicId, role, status);
+            // 로그인마다 새 토큰 패밀리를 시작한다
+            UUID familyId = UUID.randomUUID();
+            String refreshToken = jwtProvider.generateRefreshToken(Duration.ofDays(1), publicId, role, status, familyId);
             // URLEncoder.encode: 공백을 %2B 로 처리
             String cookieValue = URLEncoder.encode(TOKEN_PREFIX + refreshToken, StandardCharsets.UTF_8);
 
@@ -124,8 +194,11 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
             log.debug("print refreshToken: {}", refreshToken);
             log.debug("print role: {}", role);
 
+            // 로그인 성공 시 계정의 시도 횟수 초기화
+            loginThrottle.reset(username);
+
             //Refresh 토큰 저장
-            addRefreshEntity(publicId, refreshToken, Duration.ofHours(24));
+            addRefreshEntity(publicId, familyId, refreshToken, Duration.ofHours(24));
 
             /**
              * HTTP 인증 방식은 RFC 7235 정의에 따라 아래 인증 헤더 형태를 가져야 한다.
@@ -151,23 +224,27 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
     @Override
     protected void unsuccessfulAuthentication(HttpServletRequest request, HttpServletResponse response, AuthenticationException failed) throws IOException, ServletException {
         String message = failed.getMessage();
+        // 비밀번호 해싱 대기열 포화: 자격 증명 문제가 아니므로 503 으로 응답
+        if (failed instanceof PasswordHashingBusyException) {
+            log.warn("로그인 해싱 대기열 포화 : {}", message);
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            sendErrorResponse(response, SERVICE_UNAVAILABLE.getStatus(), SERVICE_UNAVAILABLE.getMsg());
+            return;
+        }
         //로그인 실패시 401 응답 코드 반환
         response.setStatus(401);
         log.debug("message : {}", message);
         System.out.println("fail authentication");
     }
 
-    public void addRefreshEntity(UUID publicId, String refresh, Duration duration) {
+    public void addRefreshEntity(UUID publicId, UUID familyId, String refresh, Duration duration) {
         log.info("addRefreshEntity > publicId: {}, refresh: {}, expiredMs: {}", publicId, refresh, duration.toMillis());
-        Date date = new Date(System.currentTimeMillis() + duration.toMillis());
-
-        Refresh refreshEntity = Refresh.builder()
-                .publicId(publicId)
-                .refresh(refresh)
-                .expiration(date.toString())
-                .build();
+        refreshTokenStore.save(publicId, familyId, refresh, Instant.now().plus(duration));
+    }
 
-        refreshJpaRepository.save(refreshEntity);
+    private void sendTooManyRequests(HttpServletResponse response, long retryAfterSeconds) throws IOException {
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        sendErrorResponse(response, TOO_MANY_REQUESTS.getStatus(), TOO_MANY_REQUESTS.getMsg());
     }
 
     /**
@@ -1,10 +1,11 @@
 package com.jpacommunity.auth.security.filter;
 
+import com.jpacommunity.auth.security.cache.MemberTokenRevocations;
+import com.jpacommunity.auth.security.cache.VerifiedTokenCache;
+import com.jpacommunity.auth.security.cache.VerifiedTokenCache.VerifiedPrincipal;
+import com.jpacommunity.jwt.domain.ParsedToken;
 import com.jpacommunity.jwt.util.JwtProvider;
-import com.jpacommunity.member.domain.MemberRole;
-import com.jpacommunity.member.domain.MemberStatus;
-import com.jpacommunity.member.entity.Member;
-import com.jpacommunity.security.dto.CustomUserDetails;
+import com.jpacommunity.security.dto.TokenPrincipal;
 import io.jsonwebtoken.JwtException;
 import io.micrometer.common.util.StringUtils;
 import jakarta.servlet.FilterChain;
@@ -19,10 +20,9 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.UUID;
+import java.util.Date;
 
 import static com.jpacommunity.jwt.util.JwtProvider.HEADER_AUTHORIZATION;
-import static com.jpacommunity.jwt.util.JwtProvider.TOKEN_CATEGORY_ACCESS;
 
 /**
  * 스프링 시큐리티 참고함
@@ -45,6 +45,8 @@ import static com.jpacommunity.jwt.util.JwtProvider.TOKEN_CATEGORY_ACCESS;
 @RequiredArgsConstructor
 public class TokenAuthenticationFilter extends OncePerRequestFilter {
     private final JwtProvider jwtProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final MemberTokenRevocations memberTokenRevocations;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -56,39 +58,44 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
         log.info("accessToken : " + accessToken);
         if (StringUtils.isNotBlank(accessToken)) {
             try {
-                if (!jwtProvider.validToken(accessToken)) {
-                    log.warn("인증되지 않은 토큰입니다");
-                    filterChain.doFilter(request, response);
-                    return;
+                // 이미 검증된 토큰이면 서명 검증과 클레임 추출을 생략한다
+                VerifiedPrincipal verifiedPrincipal = verifiedTokenCache.get(accessToken);
+                TokenPrincipal principal;
+                long issuedAtMillis;
+
+                if (verifiedPrincipal != null) {
+                    principal = verifiedPrincipal.principal();
+                    issuedAtMillis = verifiedPrincipal.issuedAtMillis();
+                } else {
+                    // 서명 검증은 요청당 한 번만 수행하고 이후에는 검증된 클레임을 사용한다
+                    ParsedToken parsedToken = jwtProvider.parse(accessToken);
+
+                    if (!parsedToken.isAccessToken()) {
+                        log.warn("잘못된 토큰 유형입니다");
+                        filterChain.doFilter(request, response);
+                        return;
+                    }
+
+                    log.info("publicId : {}, role : {}, status : {}", parsedToken.getPublicId(), parsedToken.getRole(), parsedToken.getStatus());
+
+                    // 엔티티 대신 불변 주체와 역할별 공유 권한 목록을 사용한다
+                    principal = TokenPrincipal.of(parsedToken.getPublicId(), parsedToken.getRole(), parsedToken.getStatus());
+                    issuedAtMillis = parsedToken.getIssuedAt() != null ? parsedToken.getIssuedAt().getTime() : 0L;
+                    verifiedTokenCache.put(accessToken, principal, new Date(issuedAtMillis), parsedToken.getExpiration());
                 }
 
-                String accessCategory = jwtProvider.getCategory(accessToken);
-                if (!TOKEN_CATEGORY_ACCESS.equals(accessCategory)) {
-                    log.warn("잘못된 토큰 유형입니다");
+                // 권한/상태 변경 전에 발급된 토큰은 클레임을 믿지 않는다 (캐시 히트 포함)
+                if (memberTokenRevocations.isRevoked(principal.publicId(), issuedAtMillis)) {
+                    log.info("폐기된 토큰입니다. publicId : {}", principal.publicId());
                     filterChain.doFilter(request, response);
                     return;
                 }
 
-                UUID publicId = jwtProvider.getPublicId(accessToken);
-                String role = jwtProvider.getRole(accessToken);
-                String status = jwtProvider.getStatus(accessToken);
-
-                log.info("publicId : " + publicId);
-                log.info("role : " + role);
-                log.info("status : " + status);
-
-                Member member = Member.builder()
-                        .publicId(publicId)
-                        .role(MemberRole.valueOf(role))
-                        .status(MemberStatus.valueOf(status))
-                        .build();
-
-                CustomUserDetails customUserDetails = new CustomUserDetails(member);
-                Authentication authToken = new UsernamePasswordAuthenticationToken(customUserDetails, null, customUserDetails.getAuthorities());
+                Authentication authToken = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
 
                 SecurityContextHolder.getContext().setAuthentication(authToken);
                 log.info("SecurityContext 에 인증 정보 저장 완료");
-            } catch (JwtException e) {
+            } catch (JwtException | IllegalArgumentException e) {
                 // 회원 가입 시 토큰이 없으니 여기에 걸려 버렸음.
                 // 그래도 다음 필터로 진행된 것 같음
                 // 그리고 permitAll 을 실행시켰음. join 인 경우 Security Context 의 Authentication 객체 존재 여부를 체크하지 않았음.
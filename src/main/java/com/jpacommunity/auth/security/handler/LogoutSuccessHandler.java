@@ -1,6 +1,9 @@
 package com.jpacommunity.security.handler;
 
-import com.jpacommunity.jwt.repository.RefreshJpaRepository;
+import com.jpacommunity.jwt.bloom.RefreshTokenBloomFilter;
+import com.jpacommunity.jwt.bloom.RefreshTokenBloomFilter.Decision;
+import com.jpacommunity.jwt.domain.ParsedToken;
+import com.jpacommunity.jwt.store.RefreshTokenStore;
 import com.jpacommunity.jwt.util.JwtProvider;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.http.Cookie;
@@ -17,19 +20,21 @@ import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.util.UUID;
 
+import static com.jpacommunity.common.util.hash.TokenHashUtil.sha256Hex;
 import static com.jpacommunity.global.exception.ErrorCode.*;
 import static com.jpacommunity.jwt.util.JwtProvider.REFRESH_TOKEN_KEY;
-import static com.jpacommunity.jwt.util.JwtProvider.TOKEN_CATEGORY_REFRESH;
 import static org.springframework.http.HttpMethod.POST;
 
 public class LogoutSuccessHandler implements org.springframework.security.web.authentication.logout.LogoutSuccessHandler {
     private Logger logger = LoggerFactory.getLogger(this.getClass());
     final JwtProvider jwtProvider;
-    final RefreshJpaRepository refreshJpaRepository;
+    final RefreshTokenStore refreshTokenStore;
+    final RefreshTokenBloomFilter refreshTokenBloomFilter;
 
-    public LogoutSuccessHandler(JwtProvider jwtProvider, RefreshJpaRepository refreshJpaRepository) {
+    public LogoutSuccessHandler(JwtProvider jwtProvider, RefreshTokenStore refreshTokenStore, RefreshTokenBloomFilter refreshTokenBloomFilter) {
         this.jwtProvider = jwtProvider;
-        this.refreshJpaRepository = refreshJpaRepository;
+        this.refreshTokenStore = refreshTokenStore;
+        this.refreshTokenBloomFilter = refreshTokenBloomFilter;
     }
 
     @Override
@@ -68,35 +73,46 @@ public class LogoutSuccessHandler implements org.springframework.security.web.au
         logger.debug("===========================");
         logger.debug(refresh);
         logger.debug("===========================");
+
+        // 서명 검증은 한 번만 수행하고 검증된 클레임을 사용
+        ParsedToken parsedToken;
         try {
-            Boolean expired = jwtProvider.isExpired(refresh);
-            if (expired) {
-                sendErrorResponse(response, REFRESH_TOKEN_EXPIRED.getStatus(), "만료된 토큰");
-            }
+            parsedToken = jwtProvider.parse(refresh);
         } catch (ExpiredJwtException e) {
             sendErrorResponse(response, INVALID_TOKEN_TYPE.getStatus(), "잘못된 JWT 토큰 형식");
             return;
         }
 
+        if (parsedToken.isExpired()) {
+            sendErrorResponse(response, REFRESH_TOKEN_EXPIRED.getStatus(), "만료된 토큰");
+            return;
+        }
+
         // 토큰이 refresh인지 확인 (발급시 페이로드에 명시)
-        String category = jwtProvider.getCategory(refresh);
-        if (!category.equals(TOKEN_CATEGORY_REFRESH)) {
+        if (!parsedToken.isRefreshToken()) {
             sendErrorResponse(response, INVALID_TOKEN_TYPE.getStatus(), "잘못된 JWT 토큰 형식");
             return;
         }
 
-        UUID publicId = jwtProvider.getPublicId(refresh);
+        UUID publicId = parsedToken.getPublicId();
 
-        //DB에 저장되어 있는지 확인
-        Boolean isExist = refreshJpaRepository.existsByRefreshAndPublicId(refresh, publicId);
-        if (!isExist) {
+        // 블룸 필터에 확실히 없는 토큰은 DB 조회 없이 거절
+        Decision decision = refreshTokenBloomFilter.check(sha256Hex(refresh), parsedToken, false);
+        if (decision == Decision.ABSENT) {
             sendErrorResponse(response, INVALID_REFRESH_TOKEN.getStatus(), "인증되지 않은 토큰");
             return;
         }
 
         //로그아웃 진행
-        //Refresh 토큰 DB 에서 제거
-        refreshJpaRepository.deleteByRefreshAndPublicId(refresh, publicId);
+        //Refresh 토큰 DB 에서 제거. 삭제된 행이 없으면 저장되지 않은 토큰
+        boolean isDeleted = refreshTokenStore.delete(publicId, refresh);
+        if (!isDeleted) {
+            if (decision == Decision.MAYBE) {
+                refreshTokenBloomFilter.recordFalsePositive();
+            }
+            sendErrorResponse(response, INVALID_REFRESH_TOKEN.getStatus(), "인증되지 않은 토큰");
+            return;
+        }
 
         // 1. Security Context 해제
         SecurityContextHolder.clearContext();
@@ -1,13 +1,16 @@
 package com.jpacommunity.security.service;
 
+import com.jpacommunity.member.dto.get.MemberAuthView;
 import com.jpacommunity.member.entity.Member;
 import com.jpacommunity.member.repository.MemberJpaRepository;
 import com.jpacommunity.security.dto.CustomUserDetails;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -15,22 +18,26 @@ import static com.jpacommunity.member.domain.MemberType.LOCAL;
 
 @Service
 @Slf4j
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
     private final MemberJpaRepository userRepository;
 
     public CustomUserDetailsService(MemberJpaRepository userRepository) {
         this.userRepository = userRepository;
     }
 
+    /**
+     * 로그인 시 인증에 필요한 컬럼만 조회한다. 엔티티를 영속성 컨텍스트에 올리지 않으며 읽기 전용 트랜잭션이라 flush 도 없다.
+     */
     @Override
+    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         log.info("일반 로그인 CustomUserDetailsService 실행됨");
         log.info("username : {}", username);
-        Optional<Member> memberOP = userRepository.findByEmail(username);
+        Optional<MemberAuthView> memberOP = userRepository.findAuthByEmail(username);
 
         if (memberOP.isPresent()) {
             // 로컬 회원인지 소셜 회원인지 확인
-            if (memberOP.get().getType() != LOCAL) {
+            if (memberOP.get().type() != LOCAL) {
                 log.warn("소셜 회원이 로컬 로그인 시도 중 - 거부됨");
                 return null;
             }
@@ -42,4 +49,25 @@ public class CustomUserDetailsService implements UserDetailsService {
         log.warn("사용자를 찾을수 없습니다.");
         return null;
     }
-}
\ No newline at end of file
+
+    /**
+     * 저장된 해시의 BCrypt cost 가 현재 설정과 다르면 로그인 성공 시 DaoAuthenticationProvider 가 호출한다.
+     *
+     * @param user 인증된 사용자
+     * @param newPassword 현재 cost 로 다시 암호화된 비밀번호
+     * @return 비밀번호가 갱신된 UserDetails
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        Optional<Member> memberOP = userRepository.findByEmail(user.getUsername());
+        if (memberOP.isEmpty()) {
+            return user;
+        }
+
+        Member member = memberOP.get();
+        member.updateEncodedPassword(newPassword);
+        log.info("비밀번호 해시 cost 갱신 - username: {}", user.getUsername());
+        return new CustomUserDetails(member);
+    }
+}
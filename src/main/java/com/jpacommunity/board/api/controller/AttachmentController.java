@@ -2,7 +2,9 @@ package com.jpacommunity.board.api.controller;
 
 import com.jpacommunity.board.api.controller.response.AttachmentResponse;
 import com.jpacommunity.board.api.dto.PostCreateRequest;
+import com.jpacommunity.board.core.cache.PostDetailCache;
 import com.jpacommunity.board.core.service.AttachmentService;
+import com.jpacommunity.board.core.service.PostQueryService;
 import com.jpacommunity.common.web.response.ResponseDto;
 import com.jpacommunity.global.exception.JpaCommunityException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -30,10 +32,15 @@ public class AttachmentController {
     private static final String TEMP_DIRECTORY = "temp-files"; // 경로 설정
 
     private final AttachmentService attachmentService;
+    private final PostQueryService postQueryService;
+    private final PostDetailCache postDetailCache;
 
     @DeleteMapping("/{id}")
     public ResponseEntity<ResponseDto<Void>> delete(@PathVariable Long id) {
+        // 삭제 후에는 게시글을 알 수 없으므로 먼저 조회
+        Long postId = postQueryService.findPostIdByAttachmentId(id).orElse(null);
         attachmentService.deleteById(id);
+        postDetailCache.evict(postId);
         return ResponseEntity.ok(new ResponseDto<>(SUCCESS.getValue(), "첨부파일 삭제 성공", null));
     }
 
@@ -2,17 +2,22 @@ package com.jpacommunity.board.api.controller;
 
 import com.jpacommunity.board.api.controller.response.CategoryResponse;
 import com.jpacommunity.board.api.dto.CategoryCreateRequest;
+import com.jpacommunity.board.api.dto.CategoryMoveRequest;
 import com.jpacommunity.board.api.dto.CategoryUpdateRequest;
+import com.jpacommunity.board.core.cache.CategoryTree;
 import com.jpacommunity.board.core.service.CategoryService;
 import com.jpacommunity.common.web.response.ResponseDto;
+import com.jpacommunity.global.version.VersionedResource;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 
 import static com.jpacommunity.common.web.response.ResponseStatus.SUCCESS;
+import static com.jpacommunity.global.version.ResourceVersions.CATEGORIES;
 
 
 @RestController
@@ -36,6 +41,14 @@ public class CategoryController {
         return ResponseEntity.ok(new ResponseDto<>(SUCCESS.getValue(), "카테고리 수정 성공", response));
     }
 
+    // UPDATE: 같은 부모 안에서 순번 이동
+    @PatchMapping("/{id}/order-index")
+    public ResponseEntity<ResponseDto<CategoryResponse>> moveCategory(@PathVariable Long id,
+                                                                      @Valid @RequestBody CategoryMoveRequest categoryMoveRequest) {
+        CategoryResponse response = categoryService.move(id, categoryMoveRequest);
+        return ResponseEntity.ok(new ResponseDto<>(SUCCESS.getValue(), "카테고리 이동 성공", response));
+    }
+
     // DELETE: 카테고리 삭제
     @DeleteMapping("/{id}")
     public ResponseEntity<ResponseDto<Void>> deleteCategory(@PathVariable Long id) {
@@ -44,21 +57,31 @@ public class CategoryController {
     }
 
     // READ: 단일 카테고리 조회
+    // order-index 모드에서는 DB 에서, rank 모드에서는 트리 스냅샷에서 읽는다.
+    // order-index 모드의 본문이 스냅샷과 다를 수 있으므로 스냅샷의 ETag 를 쓰지 않는다 (@VersionedResource 없음)
     @GetMapping("/{id}")
     public ResponseEntity<ResponseDto<CategoryResponse>> getCategoryById(@PathVariable Long id) {
         CategoryResponse response = categoryService.getById(id);
         return ResponseEntity.ok(new ResponseDto<>(SUCCESS.getValue(), "카테고리 조회 성공", response));
     }
 
+    // 미리 직렬화된 트리 스냅샷을 그대로 내려준다. ETag 는 본문과 같은 스냅샷에서 꺼낸다.
+    @VersionedResource(CATEGORIES)
     @GetMapping()
-    public ResponseEntity<ResponseDto<List<CategoryResponse>>> getAllCategories() {
-        final List<CategoryResponse> categories = categoryService.getAllCategories();
-        return ResponseEntity.ok(new ResponseDto<>(SUCCESS.getValue(), "카테고리 목록 조회 성공", categories));
+    public ResponseEntity<byte[]> getAllCategories() {
+        CategoryTree tree = categoryService.getCategoryTree();
+        return ResponseEntity.ok()
+                .eTag(tree.getEtag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(tree.getJson());
     }
 
+    @VersionedResource(CATEGORIES)
     @GetMapping("/roots")
     public ResponseEntity<ResponseDto<List<CategoryResponse>>> getRootCategories() {
-        List<CategoryResponse> rootCategories = categoryService.getRootCategories();
-        return ResponseEntity.ok(new ResponseDto<>(SUCCESS.getValue(), "루트 카테고리 조회 성공", rootCategories));
+        CategoryTree tree = categoryService.getCategoryTree();
+        return ResponseEntity.ok()
+                .eTag(tree.getEtag())
+                .body(new ResponseDto<>(SUCCESS.getValue(), "루트 카테고리 조회 성공", tree.getRootsWithoutChildren()));
     }
 }
\ No newline at end of file
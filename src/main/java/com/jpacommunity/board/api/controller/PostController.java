@@ -1,13 +1,19 @@
 package com.jpacommunity.board.api.controller;
 
+import com.jpacommunity.board.api.controller.response.PostDetailResponse;
 import com.jpacommunity.board.api.controller.response.PostResponse;
+import com.jpacommunity.board.api.controller.response.PostSliceResponse;
 import com.jpacommunity.board.api.dto.PostCreateRequest;
 import com.jpacommunity.board.api.dto.PostUpdateRequest;
 import com.jpacommunity.board.core.service.AttachmentService;
+import com.jpacommunity.board.core.cache.PostDetailCache;
+import com.jpacommunity.board.core.service.PostQueryService;
 import com.jpacommunity.board.core.service.PostService;
 import com.jpacommunity.common.web.response.ResponseDto;
 import com.jpacommunity.global.exception.JpaCommunityException;
+import com.jpacommunity.global.ratelimit.PostCreateRateLimiter;
 import com.jpacommunity.member.service.MemberService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,7 +23,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
-import com.jpacommunity.security.dto.CustomUserDetails;
+import com.jpacommunity.security.dto.MemberPrincipal;
 
 import java.io.IOException;
 import java.util.List;
@@ -33,8 +39,11 @@ import static com.jpacommunity.global.exception.ErrorCode.IO_EXCEPTION;
 public class PostController {
 
     private final PostService postService;
+    private final PostQueryService postQueryService;
+    private final PostDetailCache postDetailCache;
     private final AttachmentService attachmentService;
     private final MemberService memberService;
+    private final PostCreateRateLimiter postCreateRateLimiter;
 
     // RequestPart 참고
     // https://devsungwon.tistory.com/entry/Spring-MultipartFile%EC%9D%B4-%ED%8F%AC%ED%95%A8%EB%90%9C-DTO-requestBody%EB%A1%9C-%EC%9A%94%EC%B2%AD%EB%B0%9B%EA%B8%B0-swagger-%EC%9A%94%EC%B2%AD
@@ -44,9 +53,13 @@ public class PostController {
             @Valid @RequestPart("postCreateRequest") PostCreateRequest postCreateRequest,
             BindingResult bindingResult,
             @RequestPart(value = "files", required = false) List<MultipartFile> files,
-            @AuthenticationPrincipal CustomUserDetails userDetails
+            @AuthenticationPrincipal MemberPrincipal userDetails,
+            HttpServletRequest request
     ) {
         log.info("PostController create START");
+        // 연속 작성 제한 (회원, IP)
+        postCreateRateLimiter.check(userDetails, request.getRemoteAddr());
+
         log.info("PostController create Content : {}", postCreateRequest.getContent());
         log.info("PostController create Title : {}", postCreateRequest.getTitle());
         log.info("PostController create CategoryId : {}", postCreateRequest.getCategoryId());
@@ -55,6 +68,7 @@ public class PostController {
         try {
             postResponse = postService.create(postCreateRequest, userDetails.getPublicId());
             attachmentService.update(postResponse.getId(), files, null);
+            postDetailCache.evict(postResponse.getId());
         } catch (IOException e) {
             log.error("파일 업로드 도중 I/O 에러가 발생하였습니다. errorMessage: {}", e.getMessage());
             throw new JpaCommunityException(IO_EXCEPTION);
@@ -84,6 +98,8 @@ public class PostController {
             postResponse = postService.update(postUpdateRequest);
             // 첨부파일 관련 업데이트
             attachmentService.update(postResponse.getId(), newFiles, deleteFileIds);
+            // 첨부파일 변경은 게시글 수정 트랜잭션 이후에 커밋되므로 다시 제거
+            postDetailCache.evict(postResponse.getId());
         } catch (Exception e) {
             log.error("게시글 수정 도중 에러가 발생하였습니다. errorMessage: {}", e.getMessage());
             throw new JpaCommunityException(INTERNAL_SERVER_ERROR);
@@ -107,16 +123,21 @@ public class PostController {
         }
     }
 
-    // READ: 단일 게시글 조회
+    // READ: 단일 게시글 조회 (첨부파일 포함, 캐시)
     @GetMapping("/{id}")
-    public ResponseEntity<ResponseDto<PostResponse>> get(@PathVariable Long id) {
-        // PostResponse response = postService.getById(id);
-        return ResponseEntity.ok(new ResponseDto<>(SUCCESS.getValue(), "게시글 조회 성공", null));
+    public ResponseEntity<ResponseDto<PostDetailResponse>> get(@PathVariable Long id) {
+        PostDetailResponse response = postQueryService.getDetail(id);
+        return ResponseEntity.ok(new ResponseDto<>(SUCCESS.getValue(), "게시글 조회 성공", response));
     }
 
+    // READ: 게시글 목록 조회 (키셋 페이지, 다음 페이지는 after=nextCursor)
     @GetMapping()
-    public ResponseEntity<ResponseDto<List<PostResponse>>> list() {
-        // final List<PostResponse> categories = postService.getAllCategories();
-        return ResponseEntity.ok(new ResponseDto<>(SUCCESS.getValue(), "게시글 목록 조회 성공", null));
+    public ResponseEntity<ResponseDto<PostSliceResponse>> list(
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "50") int size
+    ) {
+        PostSliceResponse response = postService.list(categoryId, after, size);
+        return ResponseEntity.ok(new ResponseDto<>(SUCCESS.getValue(), "게시글 목록 조회 성공", response));
     }
 }
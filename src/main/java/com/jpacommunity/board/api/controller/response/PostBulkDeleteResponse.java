@@ -0,0 +1,16 @@
+package com.jpacommunity.board.api.controller.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class PostBulkDeleteResponse {
+    private final List<Long> deletedIds;
+    private final List<Long> missingIds; // 요청했지만 존재하지 않는 게시글 ID
+
+    public PostBulkDeleteResponse(List<Long> deletedIds, List<Long> missingIds) {
+        this.deletedIds = deletedIds;
+        this.missingIds = missingIds;
+    }
+}
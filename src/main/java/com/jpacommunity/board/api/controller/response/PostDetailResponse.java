@@ -0,0 +1,51 @@
+package com.jpacommunity.board.api.controller.response;
+
+import com.jpacommunity.board.core.entity.Attachment;
+import com.jpacommunity.board.core.entity.Post;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 게시글 상세 (첨부파일 포함)
+ * 캐시에 그대로 보관되므로 변경 불가능한 record 로 둔다.
+ */
+public record PostDetailResponse(Long id,
+                                 String title,
+                                 String content,
+                                 Long categoryId,
+                                 String categoryName,
+                                 String authorNickname,
+                                 LocalDateTime createDate,
+                                 LocalDateTime lastModifiedDate,
+                                 List<AttachmentItem> attachments) {
+
+    /**
+     * category, member, attachments 가 초기화된 Post 로 생성
+     */
+    public static PostDetailResponse of(Post post) {
+        return new PostDetailResponse(
+                post.getId(),
+                post.getTitle(),
+                post.getContent(),
+                post.getCategory().getId(),
+                post.getCategory().getName(),
+                post.getMember().getNickname(),
+                post.getCreateDate(),
+                post.getLastModifiedDate(),
+                post.getAttachments().stream().map(AttachmentItem::of).toList()
+        );
+    }
+
+    public record AttachmentItem(Long id, String originalFilename, String filepath, Long size, boolean hasThumbnail) {
+        static AttachmentItem of(Attachment attachment) {
+            return new AttachmentItem(
+                    attachment.getId(),
+                    attachment.getOriginalFilename(),
+                    attachment.getFilepath(),
+                    attachment.getSize(),
+                    Boolean.TRUE.equals(attachment.getHasThumbnail())
+            );
+        }
+    }
+}
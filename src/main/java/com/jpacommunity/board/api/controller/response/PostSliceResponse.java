@@ -0,0 +1,21 @@
+package com.jpacommunity.board.api.controller.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 키셋 페이지 응답. 다음 페이지는 after=nextCursor 로 요청한다.
+ */
+@Getter
+public class PostSliceResponse {
+    private final List<PostSummaryResponse> posts;
+    private final boolean hasNext;
+    private final Long nextCursor; // 마지막 게시글 ID, 다음 페이지가 없으면 null
+
+    public PostSliceResponse(List<PostSummaryResponse> posts, boolean hasNext) {
+        this.posts = posts;
+        this.hasNext = hasNext;
+        this.nextCursor = hasNext ? posts.get(posts.size() - 1).getId() : null;
+    }
+}
@@ -0,0 +1,30 @@
+package com.jpacommunity.board.api.controller.response;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 항목. 엔티티 없이 목록에 필요한 컬럼만 조회한다.
+ */
+@Getter
+public class PostSummaryResponse {
+    private final Long id;
+    private final String title;
+    private final String authorNickname;
+    private final Long categoryId;
+    private final String categoryName;
+    private final boolean hasThumbnail; // 썸네일이 있는 첨부파일 존재 여부
+    private final LocalDateTime createDate;
+
+    public PostSummaryResponse(Long id, String title, String authorNickname, Long categoryId, String categoryName,
+                               Boolean hasThumbnail, LocalDateTime createDate) {
+        this.id = id;
+        this.title = title;
+        this.authorNickname = authorNickname;
+        this.categoryId = categoryId;
+        this.categoryName = categoryName;
+        this.hasThumbnail = Boolean.TRUE.equals(hasThumbnail);
+        this.createDate = createDate;
+    }
+}
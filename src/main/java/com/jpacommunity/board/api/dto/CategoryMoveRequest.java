@@ -0,0 +1,19 @@
+package com.jpacommunity.board.api.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CategoryMoveRequest {
+    // 같은 부모 안에서 이동할 순번
+    @NotNull
+    @Min(value = 1, message = "순서는 1 이상이어야 합니다.")
+    private Integer orderIndex;
+}
@@ -0,0 +1,118 @@
+package com.jpacommunity.board.core.cache;
+
+import com.jpacommunity.board.api.controller.response.CategoryResponse;
+import com.jpacommunity.global.version.ResourceVersions;
+
+import java.util.*;
+
+/**
+ * 카테고리 트리 불변 스냅샷
+ *
+ * 형제는 orderIndex(같으면 id) 순으로 미리 정렬되어 있고, 모든 리스트와 맵은 수정할 수 없다.
+ * rank 정렬 모드에서는 sort_rank 순으로 정렬하고, 응답의 orderIndex 는 형제 안에서의 위치(1부터)로 채운다.
+ * 변경 시에는 새 스냅샷을 만들어 통째로 교체하므로 읽는 쪽은 잠금 없이 사용한다.
+ */
+public final class CategoryTree {
+    private static final Comparator<Row> SIBLING_ORDER = Comparator
+            .comparing(Row::orderIndex, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(Row::id);
+    // 정렬 키가 없는 행(재정렬 전)은 order_index 순으로 뒤에 둔다. CategoryQueryRepository.findSiblingRows 와 같은 순서
+    public static final Comparator<Row> RANK_ORDER = Comparator
+            .comparing(Row::sortRank, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(SIBLING_ORDER);
+
+    private final List<CategoryResponse> roots; // 자식 포함 최상위 카테고리
+    private final List<CategoryResponse> rootsWithoutChildren;
+    private final Map<Long, CategoryResponse> nodes; // id -> 노드 (자식 포함)
+    private final byte[] json; // GET /api/categories 응답 본문
+    private final String etag; // json 으로 만든 ETag
+
+    private CategoryTree(List<CategoryResponse> roots, Map<Long, CategoryResponse> nodes, byte[] json) {
+        this.roots = roots;
+        this.rootsWithoutChildren = roots.stream()
+                .map(root -> new CategoryResponse(root.getId(), root.getName(), root.getOrderIndex(), root.getDepth(),
+                        root.getParentId(), null, root.getLink()))
+                .toList();
+        this.nodes = nodes;
+        this.json = json;
+        this.etag = ResourceVersions.etagOf(json);
+    }
+
+    /**
+     * 평면 행 목록으로 트리를 만든다. 부모가 목록에 없는 행은 버린다.
+     *
+     * @param rows 전체 카테고리 행
+     * @param byRank sort_rank 순으로 정렬할지 여부 (rank 정렬 모드)
+     * @param serializer 최상위 카테고리 목록을 응답 본문으로 직렬화하는 함수
+     * @return 스냅샷
+     */
+    public static CategoryTree of(List<Row> rows, boolean byRank, Serializer serializer) {
+        Map<Long, List<Row>> childrenByParentId = new HashMap<>();
+        List<Row> rootRows = new ArrayList<>();
+        for (Row row : rows) {
+            if (row.parentId() == null) {
+                rootRows.add(row);
+            } else {
+                childrenByParentId.computeIfAbsent(row.parentId(), k -> new ArrayList<>()).add(row);
+            }
+        }
+
+        Map<Long, CategoryResponse> nodes = new HashMap<>();
+        List<CategoryResponse> roots = build(rootRows, childrenByParentId, nodes, byRank);
+        return new CategoryTree(roots, Collections.unmodifiableMap(nodes), serializer.serialize(roots));
+    }
+
+    private static List<CategoryResponse> build(List<Row> siblings, Map<Long, List<Row>> childrenByParentId,
+                                                Map<Long, CategoryResponse> nodes, boolean byRank) {
+        siblings.sort(byRank ? RANK_ORDER : SIBLING_ORDER);
+        List<CategoryResponse> result = new ArrayList<>(siblings.size());
+        for (Row row : siblings) {
+            List<CategoryResponse> children = build(childrenByParentId.getOrDefault(row.id(), new ArrayList<>()),
+                    childrenByParentId, nodes, byRank);
+            Integer orderIndex = byRank ? result.size() + 1 : row.orderIndex();
+            CategoryResponse node = new CategoryResponse(row.id(), row.name(), orderIndex, row.depth(),
+                    row.parentId(), children, row.link());
+            nodes.put(row.id(), node);
+            result.add(node);
+        }
+        return List.copyOf(result);
+    }
+
+    public List<CategoryResponse> getRoots() {
+        return roots;
+    }
+
+    public List<CategoryResponse> getRootsWithoutChildren() {
+        return rootsWithoutChildren;
+    }
+
+    public Optional<CategoryResponse> find(Long id) {
+        return Optional.ofNullable(nodes.get(id));
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    /**
+     * 직렬화된 응답 본문. 호출자가 수정하지 않아야 하므로 복사하지 않는다.
+     */
+    public byte[] getJson() {
+        return json;
+    }
+
+    /**
+     * 직렬화된 응답 본문으로 만든 ETag. 내용이 같은 스냅샷은 ETag 도 같다.
+     */
+    public String getEtag() {
+        return etag;
+    }
+
+    public record Row(Long id, String name, Integer orderIndex, Integer depth, Long parentId, String link, Long sortRank) {
+    }
+
+    @FunctionalInterface
+    public interface Serializer {
+        byte[] serialize(List<CategoryResponse> roots);
+    }
+}
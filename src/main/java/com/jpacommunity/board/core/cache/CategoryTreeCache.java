@@ -0,0 +1,98 @@
+package com.jpacommunity.board.core.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jpacommunity.board.api.controller.response.CategoryResponse;
+import com.jpacommunity.board.core.repository.category.CategoryQueryRepository;
+import com.jpacommunity.board.core.service.CategoryOrderingProperties;
+import com.jpacommunity.common.web.response.ResponseDto;
+import com.jpacommunity.global.version.ResourceVersions;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static com.jpacommunity.common.web.response.ResponseStatus.SUCCESS;
+
+/**
+ * 카테고리 트리 스냅샷 보관소 (copy-on-write)
+ *
+ * 읽기는 volatile 필드 하나만 읽으므로 잠금이 없다. 카테고리 변경 트랜잭션이 커밋되면 새 스냅샷을 만들어 교체하고,
+ * DB 를 직접 수정한 경우를 위해 cache.category-tree.refresh-interval 마다 다시 만든다.
+ * 스냅샷을 교체할 때마다 그 본문으로 만든 ETag 를 ResourceVersions 에 등록한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryTreeCache {
+    public static final String ALL_CATEGORIES_MESSAGE = "카테고리 목록 조회 성공";
+
+    private final CategoryQueryRepository categoryQueryRepository;
+    private final CategoryOrderingProperties categoryOrderingProperties;
+    private final ObjectMapper objectMapper;
+    private final ResourceVersions resourceVersions;
+
+    private volatile CategoryTree tree;
+
+    /**
+     * 현재 스냅샷. 처음 호출될 때 한 번 만든다.
+     */
+    public CategoryTree get() {
+        CategoryTree current = tree;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            return tree != null ? tree : rebuild();
+        }
+    }
+
+    /**
+     * 카테고리 변경 시 호출. 트랜잭션 안이면 커밋 후에, 아니면 바로 스냅샷을 다시 만든다.
+     * 롤백되면 기존 스냅샷을 유지한다.
+     */
+    public void refreshAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refresh();
+                }
+            });
+        } else {
+            refresh();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${cache.category-tree.refresh-interval:10m}", initialDelayString = "${cache.category-tree.refresh-interval:10m}")
+    public void refresh() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            // 새 스냅샷을 만들지 못하면 이전 스냅샷으로 계속 응답한다
+            log.error("카테고리 트리 스냅샷 갱신 실패", e);
+        }
+    }
+
+    // 동시에 갱신되면 나중에 시작한 쪽이 최신 커밋을 읽도록 직렬화한다
+    private synchronized CategoryTree rebuild() {
+        CategoryTree rebuilt = CategoryTree.of(categoryQueryRepository.findAllRows(),
+                categoryOrderingProperties.isRankMode(), this::serialize);
+        tree = rebuilt;
+        resourceVersions.update(ResourceVersions.CATEGORIES, rebuilt.getEtag());
+        log.debug("카테고리 트리 스냅샷 갱신 - 카테고리 수: {}", rebuilt.size());
+        return rebuilt;
+    }
+
+    private byte[] serialize(List<CategoryResponse> roots) {
+        try {
+            return objectMapper.writeValueAsBytes(new ResponseDto<>(SUCCESS.getValue(), ALL_CATEGORIES_MESSAGE, roots));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("카테고리 트리 직렬화 실패", e);
+        }
+    }
+}
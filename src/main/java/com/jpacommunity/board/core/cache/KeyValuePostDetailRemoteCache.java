@@ -0,0 +1,58 @@
+package com.jpacommunity.board.core.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jpacommunity.board.api.controller.response.PostDetailResponse;
+import com.jpacommunity.jwt.store.KeyValueClient;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * KeyValueClient 기반 분산 캐시 계층. 값은 JSON 으로 저장한다.
+ * 역직렬화에 실패한 항목(배포 간 DTO 변경 등)은 miss 로 처리하고 지운다.
+ */
+@Slf4j
+public class KeyValuePostDetailRemoteCache implements PostDetailRemoteCache {
+    private static final String KEY_PREFIX = "post:detail:";
+
+    private final KeyValueClient keyValueClient;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+
+    public KeyValuePostDetailRemoteCache(KeyValueClient keyValueClient, ObjectMapper objectMapper, Duration ttl) {
+        this.keyValueClient = keyValueClient;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public Optional<PostDetailResponse> get(Long postId) {
+        String value = keyValueClient.get(KEY_PREFIX + postId);
+        if (value == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(value, PostDetailResponse.class));
+        } catch (JsonProcessingException e) {
+            log.warn("게시글 상세 캐시 역직렬화 실패 - postId: {}", postId, e);
+            keyValueClient.delete(KEY_PREFIX + postId);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void put(Long postId, PostDetailResponse postDetailResponse) {
+        try {
+            keyValueClient.set(KEY_PREFIX + postId, objectMapper.writeValueAsString(postDetailResponse), ttl);
+        } catch (JsonProcessingException e) {
+            log.warn("게시글 상세 캐시 직렬화 실패 - postId: {}", postId, e);
+        }
+    }
+
+    @Override
+    public void evict(Long postId) {
+        keyValueClient.delete(KEY_PREFIX + postId);
+    }
+}
@@ -0,0 +1,101 @@
+package com.jpacommunity.board.core.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jpacommunity.board.api.controller.response.PostDetailResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 게시글 상세 read-through 캐시 (로컬 Caffeine + 선택적 분산 계층)
+ *
+ * 조회 순서는 로컬 → 분산 → DB 이며, 같은 키를 동시에 조회하면 로더는 한 번만 실행된다.
+ * 히트/미스 수치는 cache.gets{cache=postDetailCache} 메트릭으로 노출된다.
+ */
+@Slf4j
+@Component
+public class PostDetailCache {
+    public static final String CACHE_NAME = "postDetailCache";
+
+    private final boolean enabled;
+    private final Cache<Long, PostDetailResponse> cache;
+    private final PostDetailRemoteCache remoteCache; // 없으면 null
+
+    public PostDetailCache(PostDetailCacheProperties properties, ObjectProvider<PostDetailRemoteCache> remoteCache,
+                           MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        this.remoteCache = remoteCache.getIfAvailable();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader 로 읽어 저장
+     *
+     * @param postId 게시글 ID
+     * @param loader DB 조회 함수. 예외는 그대로 전달되며 캐시되지 않는다.
+     * @return 게시글 상세
+     */
+    public PostDetailResponse get(Long postId, Function<Long, PostDetailResponse> loader) {
+        if (!enabled) {
+            return loader.apply(postId);
+        }
+        return cache.get(postId, id -> loadThroughRemote(id, loader));
+    }
+
+    /**
+     * 게시글 변경 시 호출. 즉시 제거하고, 트랜잭션 안이면 커밋 후 한 번 더 제거하여
+     * 커밋 전에 다른 요청이 이전 값을 다시 캐시하는 경우를 막는다.
+     *
+     * @param postId 게시글 ID
+     */
+    public void evict(Long postId) {
+        if (!enabled || postId == null) {
+            return;
+        }
+        evictNow(postId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(postId);
+                }
+            });
+        }
+    }
+
+    private PostDetailResponse loadThroughRemote(Long postId, Function<Long, PostDetailResponse> loader) {
+        if (remoteCache != null) {
+            Optional<PostDetailResponse> cached = remoteCache.get(postId);
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+        }
+
+        PostDetailResponse loaded = loader.apply(postId);
+        if (remoteCache != null) {
+            remoteCache.put(postId, loaded);
+        }
+        return loaded;
+    }
+
+    private void evictNow(Long postId) {
+        cache.invalidate(postId);
+        if (remoteCache != null) {
+            remoteCache.evict(postId);
+        }
+        log.debug("postDetailCache evict postId: {}", postId);
+    }
+}
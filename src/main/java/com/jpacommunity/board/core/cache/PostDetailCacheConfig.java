@@ -0,0 +1,21 @@
+package com.jpacommunity.board.core.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jpacommunity.jwt.store.KeyValueClient;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * cache.post-detail.remote 에 따라 분산 캐시 계층 등록 (none 이면 등록하지 않음)
+ */
+@Configuration
+public class PostDetailCacheConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "cache.post-detail", name = "remote", havingValue = "kv")
+    public PostDetailRemoteCache keyValuePostDetailRemoteCache(KeyValueClient keyValueClient, ObjectMapper objectMapper,
+                                                               PostDetailCacheProperties properties) {
+        return new KeyValuePostDetailRemoteCache(keyValueClient, objectMapper, properties.getRemoteTtl());
+    }
+}
@@ -0,0 +1,31 @@
+package com.jpacommunity.board.core.cache;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@Getter
+@ConfigurationProperties("cache.post-detail")
+public class PostDetailCacheProperties {
+    private final boolean enabled;
+    private final long maximumSize; // 로컬 캐시 최대 항목 수
+    private final Duration ttl; // 로컬 캐시 유지 시간 (쓰기 기준)
+    private final String remote; // 분산 캐시 계층: none, kv
+    private final Duration remoteTtl; // 분산 캐시 유지 시간
+
+    @ConstructorBinding
+    public PostDetailCacheProperties(@DefaultValue("true") boolean enabled,
+                                     @DefaultValue("10000") long maximumSize,
+                                     @DefaultValue("5m") Duration ttl,
+                                     @DefaultValue("none") String remote,
+                                     @DefaultValue("30m") Duration remoteTtl) {
+        this.enabled = enabled;
+        this.maximumSize = maximumSize;
+        this.ttl = ttl;
+        this.remote = remote;
+        this.remoteTtl = remoteTtl;
+    }
+}
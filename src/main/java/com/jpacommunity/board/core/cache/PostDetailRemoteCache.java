@@ -0,0 +1,17 @@
+package com.jpacommunity.board.core.cache;
+
+import com.jpacommunity.board.api.controller.response.PostDetailResponse;
+
+import java.util.Optional;
+
+/**
+ * 게시글 상세 분산 캐시 계층 (여러 인스턴스가 공유)
+ * 로컬 캐시 miss 시 조회되며, 빈이 없으면 로컬 캐시만 사용한다.
+ */
+public interface PostDetailRemoteCache {
+    Optional<PostDetailResponse> get(Long postId);
+
+    void put(Long postId, PostDetailResponse postDetailResponse);
+
+    void evict(Long postId);
+}
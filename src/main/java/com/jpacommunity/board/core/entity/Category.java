@@ -14,7 +14,7 @@ import java.util.List;
 @Getter
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "p_categories")
+@Table(name = "p_categories", uniqueConstraints = @UniqueConstraint(name = "uk_category_parent_sort_rank", columnNames = {"rank_parent_id", "sort_rank"}))
 public class Category extends Base {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -27,6 +27,16 @@ public class Category extends Base {
     @Column(name = "order_index")
     private Integer orderIndex;
 
+    // rank 정렬 모드의 형제 정렬 키. 간격을 두고 배정하여 이동 시 이동한 카테고리만 변경한다.
+    // 생성 이후에는 CategoryQueryRepository 의 벌크 UPDATE 로만 바꾸므로 엔티티의 이전 값이 덮어쓰지 않도록 updatable = false
+    @Column(name = "sort_rank", updatable = false)
+    private Long sortRank;
+
+    // 최상위(parent_id NULL) 카테고리도 유니크 제약에 걸리도록 NULL 을 0 으로 바꾼 생성 컬럼 (sql/category_sort_rank.sql)
+    @Column(name = "rank_parent_id", insertable = false, updatable = false,
+            columnDefinition = "BIGINT GENERATED ALWAYS AS (COALESCE(parent_id, 0)) STORED")
+    private Long rankParentId;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "parent_id")
     private Category parent;
@@ -68,6 +78,14 @@ public class Category extends Base {
         this.orderIndex = orderIndex;
     }
 
+    /**
+     * 카테고리 정렬 키를 지정 (저장 전에만 반영된다)
+     * @param sortRank 정렬 키
+     */
+    public void updateSortRank(Long sortRank) {
+        this.sortRank = sortRank;
+    }
+
     /**
      * 카테고리 링크를 변경
      * @param link 링크
@@ -0,0 +1,39 @@
+package com.jpacommunity.board.core.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 카테고리 클로저 테이블. 모든 (조상, 자손) 쌍과 그 사이 거리를 담는다. (자기 자신은 depth 0)
+ * 하위 트리 조회는 ancestor_id 인덱스 한 번으로 끝나며, 행은 CategoryClosureRepository 가 카테고리 생성/삭제 시 함께 관리한다.
+ */
+@Getter
+@Entity
+@IdClass(CategoryClosure.Key.class)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "p_category_closures", indexes = @Index(name = "idx_category_closure_descendant", columnList = "descendant_id, ancestor_id"))
+public class CategoryClosure {
+    @Id
+    @Column(name = "ancestor_id")
+    private Long ancestorId;
+
+    @Id
+    @Column(name = "descendant_id")
+    private Long descendantId;
+
+    @Column(nullable = false)
+    private Integer depth; // 조상에서 자손까지의 거리
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class Key implements Serializable {
+        private Long ancestorId;
+        private Long descendantId;
+    }
+}
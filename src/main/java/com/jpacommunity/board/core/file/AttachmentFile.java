@@ -0,0 +1,8 @@
+package com.jpacommunity.board.core.file;
+
+/**
+ * 첨부파일의 물리 파일 위치 (filepath 디렉토리 아래 savedFilename, 썸네일은 s_ 접두사)
+ */
+public record AttachmentFile(String filepath, String savedFilename, Boolean hasThumbnail) {
+    public static final String THUMBNAIL_PREFIX = "s_";
+}
@@ -0,0 +1,69 @@
+package com.jpacommunity.board.core.file;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 삭제된 첨부파일의 물리 파일 정리
+ *
+ * 트랜잭션이 커밋된 경우에만 전용 스레드에서 실행되므로 요청 응답을 지연시키지 않고, 롤백 시 파일은 남는다.
+ * 대기열이 가득 차면 호출 스레드에서 실행하여 정리 요청을 버리지 않는다. 삭제 실패는 로그만 남긴다.
+ */
+@Slf4j
+@Component
+public class AttachmentFileCleaner implements DisposableBean {
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(1000), runnable -> {
+                Thread thread = new Thread(runnable, "attachment-file-cleaner");
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.CallerRunsPolicy());
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAttachmentFilesDeleted(AttachmentFilesDeletedEvent event) {
+        if (event.files().isEmpty()) {
+            return;
+        }
+        executor.execute(() -> clean(event.files()));
+    }
+
+    void clean(List<AttachmentFile> files) {
+        int deleted = 0;
+        for (AttachmentFile file : files) {
+            if (file.filepath() == null || file.savedFilename() == null) {
+                continue;
+            }
+            deleted += delete(Path.of(file.filepath(), file.savedFilename()));
+            if (Boolean.TRUE.equals(file.hasThumbnail())) {
+                deleted += delete(Path.of(file.filepath(), AttachmentFile.THUMBNAIL_PREFIX + file.savedFilename()));
+            }
+        }
+        log.info("첨부파일 정리 완료 - 대상: {}, 삭제된 파일: {}", files.size(), deleted);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    private static int delete(Path path) {
+        try {
+            return Files.deleteIfExists(path) ? 1 : 0;
+        } catch (IOException e) {
+            log.warn("첨부파일 삭제 실패 - path: {}", path, e);
+            return 0;
+        }
+    }
+}
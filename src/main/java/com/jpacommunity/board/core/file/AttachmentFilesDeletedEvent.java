@@ -0,0 +1,9 @@
+package com.jpacommunity.board.core.file;
+
+import java.util.List;
+
+/**
+ * 첨부파일 행이 삭제된 뒤 물리 파일 정리를 요청하는 이벤트 (커밋 후 처리)
+ */
+public record AttachmentFilesDeletedEvent(List<AttachmentFile> files) {
+}
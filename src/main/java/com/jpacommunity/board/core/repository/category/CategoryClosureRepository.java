@@ -0,0 +1,63 @@
+package com.jpacommunity.board.core.repository.category;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import static com.jpacommunity.board.core.entity.QCategoryClosure.categoryClosure;
+
+/**
+ * 카테고리 클로저 테이블 관리
+ * 기본 키 (ancestor_id, descendant_id) 로 하위 트리를, idx_category_closure_descendant 로 조상 목록을 읽는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CategoryClosureRepository {
+    private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
+
+    /**
+     * 새 카테고리의 클로저 행 추가 (INSERT 1회). 자기 자신 행과, 부모의 모든 조상 행을 한 단계 늘려 복사한다.
+     *
+     * @param categoryId 새 카테고리 ID
+     * @param parentId 부모 카테고리 ID, null 이면 최상위
+     * @return 추가된 행 수
+     */
+    public int insertNode(Long categoryId, Long parentId) {
+        if (parentId == null) {
+            return entityManager.createNativeQuery(
+                            "INSERT INTO p_category_closures (ancestor_id, descendant_id, depth) VALUES (:id, :id, 0)")
+                    .setParameter("id", categoryId)
+                    .executeUpdate();
+        }
+        return entityManager.createNativeQuery(
+                        "INSERT INTO p_category_closures (ancestor_id, descendant_id, depth) " +
+                        "SELECT ancestor_id, :id, depth + 1 FROM p_category_closures WHERE descendant_id = :parentId " +
+                        "UNION ALL SELECT :id, :id, 0")
+                .setParameter("id", categoryId)
+                .setParameter("parentId", parentId)
+                .executeUpdate();
+    }
+
+    /**
+     * 카테고리를 가리키는 클로저 행 삭제 (DELETE 1회). 자식이 없는 카테고리에만 호출한다.
+     */
+    public long deleteNode(Long categoryId) {
+        return queryFactory
+                .delete(categoryClosure)
+                .where(categoryClosure.descendantId.eq(categoryId))
+                .execute();
+    }
+
+    /**
+     * 하위 카테고리 존재 여부 (기본 키 범위 조회 1회)
+     */
+    public boolean hasDescendants(Long categoryId) {
+        return queryFactory
+                .selectOne()
+                .from(categoryClosure)
+                .where(categoryClosure.ancestorId.eq(categoryId), categoryClosure.depth.gt(0))
+                .fetchFirst() != null;
+    }
+}
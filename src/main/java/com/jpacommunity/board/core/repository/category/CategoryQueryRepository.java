@@ -0,0 +1,158 @@
+package com.jpacommunity.board.core.repository.category;
+
+import com.jpacommunity.board.core.cache.CategoryTree;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.function.LongSupplier;
+
+import static com.jpacommunity.board.core.entity.QCategory.category;
+
+@Repository
+@RequiredArgsConstructor
+public class CategoryQueryRepository {
+    private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
+
+    /**
+     * 카테고리 트리 스냅샷용 전체 조회. 엔티티를 만들지 않고 평면 행으로 읽는다. (parent.id 는 FK 컬럼이라 조인하지 않음)
+     *
+     * @return 전체 카테고리 행
+     */
+    public List<CategoryTree.Row> findAllRows() {
+        return queryFactory
+                .select(Projections.constructor(CategoryTree.Row.class,
+                        category.id,
+                        category.name,
+                        category.orderIndex,
+                        category.depth,
+                        category.parent.id,
+                        category.link,
+                        category.sortRank))
+                .from(category)
+                .fetch();
+    }
+
+    /**
+     * 형제 카테고리 행을 sort_rank 순으로 조회 (키가 없는 행은 order_index 순으로 뒤에)
+     *
+     * @param parentId 부모 카테고리 ID, null 이면 최상위
+     */
+    public List<CategoryTree.Row> findSiblingRows(Long parentId) {
+        return queryFactory
+                .select(Projections.constructor(CategoryTree.Row.class,
+                        category.id,
+                        category.name,
+                        category.orderIndex,
+                        category.depth,
+                        category.parent.id,
+                        category.link,
+                        category.sortRank))
+                .from(category)
+                .where(parentIdEq(parentId))
+                .orderBy(category.sortRank.asc().nullsLast(), category.orderIndex.asc().nullsLast(), category.id.asc())
+                .fetch();
+    }
+
+    /**
+     * 형제 중 가장 큰 sort_rank, 없으면 null
+     */
+    public Long findMaxSortRank(Long parentId) {
+        return queryFactory
+                .select(category.sortRank.max())
+                .from(category)
+                .where(parentIdEq(parentId))
+                .fetchOne();
+    }
+
+    /**
+     * 형제 카테고리 수
+     *
+     * @param parentId 부모 카테고리 ID, null 이면 최상위
+     */
+    public long countSiblings(Long parentId) {
+        Long count = queryFactory
+                .select(category.count())
+                .from(category)
+                .where(parentIdEq(parentId))
+                .fetchOne();
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * 형제 카테고리 순번 일괄 이동 (UPDATE 1회)
+     * UPDATE p_categories SET order_index = order_index + :delta WHERE parent_id = :parentId AND order_index BETWEEN :from AND :to
+     *
+     * @param parentId 부모 카테고리 ID, null 이면 최상위
+     * @param from 이동할 구간 시작 순번 (포함)
+     * @param to 이동할 구간 끝 순번 (포함), null 이면 끝까지
+     * @param delta 더할 값
+     * @return 변경된 행 수
+     */
+    public long shiftOrderIndex(Long parentId, int from, Integer to, int delta) {
+        return executeBulk(() -> queryFactory
+                .update(category)
+                .set(category.orderIndex, category.orderIndex.add(delta))
+                .where(parentIdEq(parentId),
+                        category.orderIndex.goe(from),
+                        to == null ? null : category.orderIndex.loe(to))
+                .execute());
+    }
+
+    /**
+     * 카테고리 순번 변경 (UPDATE 1회)
+     */
+    public long updateOrderIndex(Long id, int orderIndex) {
+        return executeBulk(() -> queryFactory
+                .update(category)
+                .set(category.orderIndex, orderIndex)
+                .where(category.id.eq(id))
+                .execute());
+    }
+
+    /**
+     * 카테고리 정렬 키 변경 (UPDATE 1회)
+     * sort_rank 는 엔티티에서 updatable = false 이므로 영속성 컨텍스트를 비우지 않는다.
+     */
+    public long updateSortRank(Long id, long sortRank) {
+        entityManager.flush();
+        return queryFactory
+                .update(category)
+                .set(category.sortRank, sortRank)
+                .where(category.id.eq(id))
+                .execute();
+    }
+
+    /**
+     * 형제 카테고리 정렬 키를 모두 비운다. 재배정 중 (부모, sort_rank) 유니크 제약에 걸리지 않도록 먼저 호출한다.
+     * (MySQL 유니크 인덱스는 NULL 끼리 충돌하지 않음)
+     */
+    public long clearSortRanks(Long parentId) {
+        entityManager.flush();
+        return queryFactory
+                .update(category)
+                .setNull(category.sortRank)
+                .where(parentIdEq(parentId))
+                .execute();
+    }
+
+    /**
+     * 벌크 UPDATE 는 영속성 컨텍스트를 거치지 않으므로 실행 전에 변경 내용을 반영하고,
+     * 실행 후에는 이전 순번을 가진 엔티티가 남지 않도록 비운다. (@Modifying(flushAutomatically, clearAutomatically) 와 동일)
+     */
+    private long executeBulk(LongSupplier update) {
+        entityManager.flush();
+        long updated = update.getAsLong();
+        entityManager.clear();
+        return updated;
+    }
+
+    private BooleanExpression parentIdEq(Long parentId) {
+        return parentId == null ? category.parent.isNull() : category.parent.id.eq(parentId);
+    }
+}
@@ -0,0 +1,56 @@
+package com.jpacommunity.board.core.repository.post;
+
+import com.jpacommunity.board.core.file.AttachmentFile;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import static com.jpacommunity.board.core.entity.QAttachment.attachment;
+import static com.jpacommunity.board.core.entity.QPost.post;
+
+/**
+ * 게시글 일괄 삭제용 IN 조회와 벌크 DELETE
+ * 벌크 DELETE 는 영속성 컨텍스트를 거치지 않으므로 호출한 트랜잭션에서 삭제된 엔티티를 다시 사용하지 않아야 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostBulkDeleteRepository {
+    private final JPAQueryFactory queryFactory;
+
+    public List<Long> findExistingIds(Collection<Long> ids) {
+        return queryFactory
+                .select(post.id)
+                .from(post)
+                .where(post.id.in(ids))
+                .fetch();
+    }
+
+    public List<AttachmentFile> findAttachmentFiles(Collection<Long> postIds) {
+        return queryFactory
+                .select(Projections.constructor(AttachmentFile.class,
+                        attachment.filepath,
+                        attachment.savedFilename,
+                        attachment.hasThumbnail))
+                .from(attachment)
+                .where(attachment.post.id.in(postIds))
+                .fetch();
+    }
+
+    public long deleteAttachmentsByPostIds(Collection<Long> postIds) {
+        return queryFactory
+                .delete(attachment)
+                .where(attachment.post.id.in(postIds))
+                .execute();
+    }
+
+    public long deletePostsByIds(Collection<Long> ids) {
+        return queryFactory
+                .delete(post)
+                .where(post.id.in(ids))
+                .execute();
+    }
+}
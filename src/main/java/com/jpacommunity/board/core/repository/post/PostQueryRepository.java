@@ -0,0 +1,173 @@
+package com.jpacommunity.board.core.repository.post;
+
+import com.jpacommunity.board.api.controller.response.PostSliceResponse;
+import com.jpacommunity.board.api.controller.response.PostSummaryResponse;
+import com.jpacommunity.board.core.entity.Post;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import static com.jpacommunity.board.core.entity.QAttachment.attachment;
+import static com.jpacommunity.board.core.entity.QCategory.category;
+import static com.jpacommunity.board.core.entity.QPost.post;
+import static com.jpacommunity.member.entity.QMember.member;
+
+@Repository
+@RequiredArgsConstructor
+public class PostQueryRepository {
+    // 하위 카테고리마다 idx_post_category_id (category_id, id) 를 after 부터 역순으로 :limit 건까지만 읽고 (LATERAL, MySQL 8.0.14+),
+    // 합친 결과에서 다시 :limit 건을 고른다. 읽는 행은 최대 (하위 카테고리 수 x limit) 건으로 페이지 깊이와 무관하다.
+    private static final String SUBTREE_SEEK_SQL = """
+            SELECT p.id
+            FROM p_category_closures c
+            JOIN LATERAL (
+                SELECT id
+                FROM p_posts
+                WHERE category_id = c.descendant_id AND id < :after
+                ORDER BY id DESC
+                LIMIT :limit
+            ) p ON TRUE
+            WHERE c.ancestor_id = :categoryId
+            ORDER BY p.id DESC
+            LIMIT :limit
+            """;
+
+    private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
+
+    /**
+     * 게시글 목록 키셋(seek) 조회
+     *
+     * OFFSET 대신 마지막으로 본 게시글 ID 보다 작은 ID 부터 읽으므로 깊은 페이지도 첫 페이지와 비용이 같다.
+     * 카테고리 조건이 없으면 PK 를 역순으로 size + 1 건만 읽는다.
+     * 카테고리 조건이 있으면 하위 카테고리별로 idx_post_category_id 를 역순으로 size + 1 건씩 읽어 합친 뒤 (SUBTREE_SEEK_SQL),
+     * 고른 ID 로 목록 행을 만든다 (쿼리 2회). category_id IN (하위 카테고리) 로 한 번에 읽으면
+     * 카테고리별 범위를 모두 모아 정렬해야 해서 비용이 하위 트리의 게시글 수에 비례한다.
+     * size + 1 건을 읽어 다음 페이지 존재 여부를 판단한다.
+     *
+     * @param categoryId 카테고리 ID (하위 카테고리 포함), null 이면 전체
+     * @param after 이전 페이지의 nextCursor, null 이면 첫 페이지
+     * @param size 페이지 크기
+     * @return PostSliceResponse
+     */
+    public PostSliceResponse findSlice(Long categoryId, Long after, int size) {
+        BooleanExpression condition;
+        if (categoryId == null) {
+            condition = idLessThan(after);
+        } else {
+            List<Long> ids = findSubtreeSliceIds(categoryId, after, size + 1);
+            if (ids.isEmpty()) {
+                return new PostSliceResponse(List.of(), false);
+            }
+            condition = post.id.in(ids);
+        }
+
+        List<PostSummaryResponse> posts = queryFactory
+                .select(Projections.constructor(PostSummaryResponse.class,
+                        post.id,
+                        post.title,
+                        member.nickname,
+                        category.id,
+                        category.name,
+                        JPAExpressions.selectOne()
+                                .from(attachment)
+                                .where(attachment.post.id.eq(post.id), attachment.hasThumbnail.isTrue())
+                                .exists(),
+                        post.createDate))
+                .from(post)
+                .join(post.member, member)
+                .join(post.category, category)
+                .where(condition)
+                .orderBy(post.id.desc())
+                .limit(size + 1L)
+                .fetch();
+
+        boolean hasNext = posts.size() > size;
+        if (hasNext) {
+            posts = posts.subList(0, size);
+        }
+        return new PostSliceResponse(posts, hasNext);
+    }
+
+    /**
+     * 상세 조회, 수정용. PostResponse 가 사용하는 카테고리를 함께 읽는다. (작성자는 읽지 않음)
+     *
+     * @param id 게시글 ID
+     * @return 카테고리가 초기화된 Post
+     */
+    public Optional<Post> findWithCategoryById(Long id) {
+        return Optional.ofNullable(queryFactory
+                .selectFrom(post)
+                .join(post.category, category).fetchJoin()
+                .where(post.id.eq(id))
+                .fetchOne());
+    }
+
+    /**
+     * 작성자 확인이 필요한 경우. 카테고리와 작성자를 함께 읽는다.
+     *
+     * @param id 게시글 ID
+     * @return 카테고리, 작성자가 초기화된 Post
+     */
+    public Optional<Post> findWithCategoryAndMemberById(Long id) {
+        return Optional.ofNullable(queryFactory
+                .selectFrom(post)
+                .join(post.category, category).fetchJoin()
+                .join(post.member, member).fetchJoin()
+                .where(post.id.eq(id))
+                .fetchOne());
+    }
+
+    /**
+     * 상세 조회용. 카테고리, 작성자, 첨부파일을 한 번의 fetch join 으로 읽는다.
+     *
+     * @param id 게시글 ID
+     * @return 연관 엔티티가 모두 초기화된 Post
+     */
+    public Optional<Post> findDetailById(Long id) {
+        return Optional.ofNullable(queryFactory
+                .selectFrom(post)
+                .join(post.category, category).fetchJoin()
+                .join(post.member, member).fetchJoin()
+                .leftJoin(post.attachments, attachment).fetchJoin()
+                .where(post.id.eq(id))
+                .fetchOne());
+    }
+
+    /**
+     * 첨부파일이 속한 게시글 ID (캐시 제거용)
+     *
+     * @param attachmentId 첨부파일 ID
+     * @return 게시글 ID
+     */
+    public Optional<Long> findPostIdByAttachmentId(Long attachmentId) {
+        return Optional.ofNullable(queryFactory
+                .select(attachment.post.id)
+                .from(attachment)
+                .where(attachment.id.eq(attachmentId))
+                .fetchOne());
+    }
+
+    // 카테고리와 그 하위 카테고리 게시글 중 after 보다 작은 ID 를 큰 순서로 limit 건
+    private List<Long> findSubtreeSliceIds(Long categoryId, Long after, int limit) {
+        List<?> rows = entityManager.createNativeQuery(SUBTREE_SEEK_SQL)
+                .setParameter("categoryId", categoryId)
+                .setParameter("after", after == null ? Long.MAX_VALUE : after)
+                .setParameter("limit", limit)
+                .getResultList();
+        return rows.stream()
+                .map(row -> ((Number) row).longValue())
+                .toList();
+    }
+
+    private BooleanExpression idLessThan(Long after) {
+        return after == null ? null : post.id.lt(after);
+    }
+}
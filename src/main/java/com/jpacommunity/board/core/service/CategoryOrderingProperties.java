@@ -0,0 +1,32 @@
+package com.jpacommunity.board.core.service;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@Getter
+@ConfigurationProperties("board.category-ordering")
+public class CategoryOrderingProperties {
+    private final Mode mode;
+    private final long rankGap; // 재정렬 직후 형제 사이 sort_rank 간격
+    private final long minRankGap; // 형제 사이 간격이 이보다 좁아지면 백그라운드 재정렬 대상
+
+    @ConstructorBinding
+    public CategoryOrderingProperties(@DefaultValue("order-index") Mode mode,
+                                      @DefaultValue("65536") long rankGap,
+                                      @DefaultValue("64") long minRankGap) {
+        this.mode = mode;
+        this.rankGap = rankGap;
+        this.minRankGap = minRankGap;
+    }
+
+    public boolean isRankMode() {
+        return mode == Mode.RANK;
+    }
+
+    public enum Mode {
+        ORDER_INDEX, // 연속된 order_index (1, 2, 3 ...), 이동/삭제 시 형제 순번을 함께 변경
+        RANK // 간격을 둔 sort_rank, 이동 시 이동한 카테고리만 변경
+    }
+}
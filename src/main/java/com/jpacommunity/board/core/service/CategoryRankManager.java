@@ -0,0 +1,160 @@
+package com.jpacommunity.board.core.service;
+
+import com.jpacommunity.board.core.cache.CategoryTree;
+import com.jpacommunity.board.core.cache.CategoryTree.Row;
+import com.jpacommunity.board.core.repository.category.CategoryQueryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * rank 정렬 모드의 sort_rank 배정
+ *
+ * 형제 사이에 rankGap 간격으로 키를 두고, 이동 시 앞뒤 형제 키의 중간값을 배정하여 이동한 카테고리 한 행만 변경한다.
+ * 중간값이 남지 않으면 그 형제 묶음만 다시 배정하고, 간격이 minRankGap 보다 좁아진 묶음은 백그라운드에서 미리 다시 배정한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryRankManager {
+    private final CategoryQueryRepository categoryQueryRepository;
+    private final CategoryOrderingProperties properties;
+
+    /**
+     * 새 카테고리의 정렬 키 (마지막 형제 뒤)
+     *
+     * @param parentId 부모 카테고리 ID, null 이면 최상위
+     */
+    public long nextRank(Long parentId) {
+        Long max = categoryQueryRepository.findMaxSortRank(parentId);
+        return max == null ? properties.getRankGap() : max + properties.getRankGap();
+    }
+
+    /**
+     * 형제 안에서 position 위치로 이동
+     *
+     * @param id 이동할 카테고리 ID
+     * @param parentId 부모 카테고리 ID, null 이면 최상위
+     * @param position 이동할 위치 (1부터, 형제 수 이하)
+     * @return 위치가 바뀌었으면 true
+     */
+    @Transactional
+    public boolean move(Long id, Long parentId, int position) {
+        List<Row> siblings = categoryQueryRepository.findSiblingRows(parentId);
+        if (siblings.stream().anyMatch(row -> row.sortRank() == null)) {
+            siblings = rebalance(parentId, siblings);
+        }
+        if (indexOf(siblings, id) == position - 1) {
+            return false;
+        }
+
+        OptionalLong rank = rankAt(without(siblings, id), position, properties.getRankGap());
+        if (rank.isEmpty()) {
+            // 앞뒤 키가 붙어 있으면 형제 묶음을 다시 배정한 뒤 계산
+            rank = rankAt(without(rebalance(parentId, siblings), id), position, properties.getRankGap());
+        }
+        categoryQueryRepository.updateSortRank(id, rank.getAsLong());
+        return true;
+    }
+
+    /**
+     * 키가 없거나 간격이 좁아진 형제 묶음을 다시 배정한다. 순서는 바뀌지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${board.category-ordering.rebalance-interval:1h}", initialDelayString = "${board.category-ordering.rebalance-interval:1h}")
+    @Transactional
+    public void rebalanceCrowded() {
+        if (!properties.isRankMode()) {
+            return;
+        }
+
+        Map<Long, List<Row>> siblingsByParentId = new HashMap<>();
+        for (Row row : categoryQueryRepository.findAllRows()) {
+            siblingsByParentId.computeIfAbsent(row.parentId(), k -> new ArrayList<>()).add(row);
+        }
+
+        int rebalanced = 0;
+        for (Map.Entry<Long, List<Row>> entry : siblingsByParentId.entrySet()) {
+            List<Row> siblings = entry.getValue();
+            siblings.sort(CategoryTree.RANK_ORDER);
+            if (isCrowded(siblings, properties.getMinRankGap())) {
+                rebalance(entry.getKey(), siblings);
+                rebalanced++;
+            }
+        }
+        if (rebalanced > 0) {
+            log.info("카테고리 정렬 키 재배정 - 형제 묶음: {}", rebalanced);
+        }
+    }
+
+    // 현재 순서대로 rankGap 간격 재배정. 유니크 제약을 피하려고 먼저 모두 비운다.
+    private List<Row> rebalance(Long parentId, List<Row> orderedSiblings) {
+        categoryQueryRepository.clearSortRanks(parentId);
+        List<Row> rebalanced = new ArrayList<>(orderedSiblings.size());
+        for (int i = 0; i < orderedSiblings.size(); i++) {
+            Row row = orderedSiblings.get(i);
+            long rank = (i + 1) * properties.getRankGap();
+            categoryQueryRepository.updateSortRank(row.id(), rank);
+            rebalanced.add(new Row(row.id(), row.name(), row.orderIndex(), row.depth(), row.parentId(), row.link(), rank));
+        }
+        log.debug("카테고리 정렬 키 재배정 - parentId: {}, 형제 수: {}", parentId, rebalanced.size());
+        return rebalanced;
+    }
+
+    /**
+     * others(이동할 카테고리를 뺀 형제) 사이 position 위치에 들어갈 키
+     *
+     * @return 앞뒤 키 사이에 빈 값이 없으면 empty
+     */
+    static OptionalLong rankAt(List<Row> others, int position, long gap) {
+        Long before = position >= 2 ? others.get(position - 2).sortRank() : null;
+        Long after = position - 1 < others.size() ? others.get(position - 1).sortRank() : null;
+
+        if (before == null && after == null) {
+            return OptionalLong.of(gap);
+        }
+        if (before == null) {
+            return OptionalLong.of(after - gap);
+        }
+        if (after == null) {
+            return OptionalLong.of(before + gap);
+        }
+        if (after - before < 2) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(before + (after - before) / 2);
+    }
+
+    static boolean isCrowded(List<Row> orderedSiblings, long minGap) {
+        for (int i = 0; i < orderedSiblings.size(); i++) {
+            Long rank = orderedSiblings.get(i).sortRank();
+            if (rank == null) {
+                return true;
+            }
+            if (i > 0 && rank - orderedSiblings.get(i - 1).sortRank() < minGap) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int indexOf(List<Row> siblings, Long id) {
+        for (int i = 0; i < siblings.size(); i++) {
+            if (siblings.get(i).id().equals(id)) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("형제 목록에 없는 카테고리입니다. id: " + id);
+    }
+
+    private static List<Row> without(List<Row> siblings, Long id) {
+        return siblings.stream().filter(row -> !row.id().equals(id)).toList();
+    }
+}
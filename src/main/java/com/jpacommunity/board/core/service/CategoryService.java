@@ -2,17 +2,22 @@ package com.jpacommunity.board.core.service;
 
 import com.jpacommunity.board.api.controller.response.CategoryResponse;
 import com.jpacommunity.board.api.dto.CategoryCreateRequest;
+import com.jpacommunity.board.api.dto.CategoryMoveRequest;
 import com.jpacommunity.board.api.dto.CategoryUpdateRequest;
+import com.jpacommunity.board.core.cache.CategoryTree;
+import com.jpacommunity.board.core.cache.CategoryTreeCache;
 import com.jpacommunity.board.core.entity.Category;
+import com.jpacommunity.board.core.repository.category.CategoryClosureRepository;
+import com.jpacommunity.board.core.repository.category.CategoryQueryRepository;
 import com.jpacommunity.board.core.repository.category.CategoryRepository;
 import com.jpacommunity.global.exception.JpaCommunityException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import static com.jpacommunity.global.exception.ErrorCode.*;
 
@@ -23,6 +28,11 @@ import static com.jpacommunity.global.exception.ErrorCode.*;
 @Transactional(readOnly = true)
 public class CategoryService {
     private final CategoryRepository categoryRepository;
+    private final CategoryQueryRepository categoryQueryRepository;
+    private final CategoryClosureRepository categoryClosureRepository;
+    private final CategoryTreeCache categoryTreeCache;
+    private final CategoryOrderingProperties orderingProperties;
+    private final CategoryRankManager categoryRankManager;
 
     @Transactional
     public CategoryResponse create(CategoryCreateRequest categoryCreateRequest) {
@@ -54,7 +64,13 @@ public class CategoryService {
             categoryEntity.updateOrderIndex(calculateOrderIndex(categoryRepository.findByParentIsNull()));
         }
 
-        Category savedEntity = categoryRepository.save(categoryEntity);
+        if (orderingProperties.isRankMode()) {
+            categoryEntity.updateSortRank(categoryRankManager.nextRank(categoryCreateRequest.getParentId()));
+        }
+
+        Category savedEntity = save(categoryEntity);
+        categoryClosureRepository.insertNode(savedEntity.getId(), categoryCreateRequest.getParentId());
+        refreshAfterCommit();
         return new CategoryResponse(savedEntity);
     }
 
@@ -73,6 +89,15 @@ public class CategoryService {
             validateSubForReOrderIndex(parent, categoryUpdateRequest);
         }
 
+        if (orderingProperties.isRankMode()) {
+            // 이름 변경 후 이동한 카테고리의 정렬 키만 변경 (형제는 그대로)
+            category.updateName(categoryUpdateRequest.getName());
+            category.updateLink(categoryUpdateRequest.getLink());
+            moveByRank(category.getId(), category.getCategoryParentId(), categoryUpdateRequest.getOrderIndex());
+            refreshAfterCommit();
+            return withOrderIndex(new CategoryResponse(category), categoryUpdateRequest.getOrderIndex());
+        }
+
         // 3. orderIndex 중복 확인
         Category targetCategory = categoryRepository.findByParentIdAndOrderIndex(
                 category.getCategoryParentId(), // null 처리 되어 있음
@@ -91,10 +116,41 @@ public class CategoryService {
             category.updateOrderIndex(categoryUpdateRequest.getOrderIndex());
         }
 
+        refreshAfterCommit();
+
         // 4. 수정된 결과를 DTO로 변환 후 반환
         return new CategoryResponse(category);
     }
 
+    // 커밋 후 스냅샷을 교체한다. ETag 는 새 스냅샷 본문으로 다시 계산된다.
+    private void refreshAfterCommit() {
+        categoryTreeCache.refreshAfterCommit();
+    }
+
+    // rank 정렬 모드: 동시에 같은 위치로 옮기면 (부모, sort_rank) 유니크 제약에 걸린다
+    private boolean moveByRank(Long id, Long parentId, int position) {
+        try {
+            return categoryRankManager.move(id, parentId, position);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("카테고리 정렬 키가 충돌했습니다. id : {}", id);
+            throw new JpaCommunityException(RESOURCE_CONFLICT);
+        }
+    }
+
+    private Category save(Category category) {
+        try {
+            return categoryRepository.save(category);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("카테고리 정렬 키가 충돌했습니다. name : {}", category.getName());
+            throw new JpaCommunityException(RESOURCE_CONFLICT);
+        }
+    }
+
+    private static CategoryResponse withOrderIndex(CategoryResponse response, int orderIndex) {
+        return new CategoryResponse(response.getId(), response.getName(), orderIndex, response.getDepth(),
+                response.getParentId(), response.getChildren(), response.getLink());
+    }
+
     private void swapOrderIndex(Category sourceCategory, Category targetCategory) {
         // orderIndex 교환용 변수
         int swapOrderIndex = targetCategory.getOrderIndex();
@@ -107,55 +163,104 @@ public class CategoryService {
         // 1. 삭제할 엔티티를 조회
         Category category = categoryRepository.getWithSortedChildrenById(id);
 
-        // 연관관계 편의 메서드. 카테고리 순번 재정렬
-        if (category.getParent() == null) {
-            // 최상위 카테고리 순번 재정렬
-            List<Category> topLevelCategories = categoryRepository.findByParentIsNull(); // 최상위 카테고리 목록 조회
-
-            topLevelCategories.remove(category); // 삭제 대상 제거
-            reorderTopLevelCategories(topLevelCategories); // 카테고리의 orderIndex 재정렬
-        } else {
-            // 부모가 있는 경우 자식 순번 재정렬
-            category.getParent().removeChild(category);
-            reorderChildren(category.getParent());
-        }
-
-        // 2. 하위 카테고리 존재 여부 확인
-        if (categoryRepository.existsByParentId(id)) {
+        // 2. 하위 카테고리 존재 여부 확인 (클로저 테이블 기본 키 범위 조회)
+        if (categoryClosureRepository.hasDescendants(id)) {
             log.debug("하위 카테고리 존재하여 삭제가 불가능 합니다. id : {}", id);
             throw new JpaCommunityException(RESOURCE_CONFLICT);
         }
 
         // 3. DTO 생성 (삭제된 정보 반환)
         CategoryResponse response = new CategoryResponse(category);
+        Long parentId = category.getCategoryParentId();
 
-        // 4. 삭제
+        // 4. 삭제 후 뒤쪽 형제의 순번을 한 번에 당긴다 (형제 수와 무관하게 UPDATE 1회)
+        // rank 정렬 모드에서는 형제의 정렬 키가 그대로 유효하므로 당기지 않는다 (order_index 가 비어 있을 수 있어 읽지 않음)
         categoryRepository.delete(category);
+        categoryClosureRepository.deleteNode(id);
+        if (!orderingProperties.isRankMode()) {
+            int orderIndex = category.getOrderIndex();
+            categoryQueryRepository.shiftOrderIndex(parentId, orderIndex + 1, null, -1);
+        }
+        refreshAfterCommit();
 
         // 5. 삭제된 DTO 반환
         return response;
     }
 
-    // CategoryResponse 로 변환하여 반환
+    /**
+     * 같은 부모 안에서 카테고리를 orderIndex 위치로 이동
+     * 사이에 있는 형제는 벌크 UPDATE 한 번으로 밀거나 당기므로 형제 수와 무관하게 UPDATE 2회로 끝난다.
+     * rank 정렬 모드에서는 이동한 카테고리의 정렬 키 한 행만 변경한다.
+     *
+     * @param id 이동할 카테고리 ID
+     * @param categoryMoveRequest 이동할 순번
+     * @return 이동된 카테고리 (자식 제외)
+     */
+    @Transactional
+    public CategoryResponse move(long id, CategoryMoveRequest categoryMoveRequest) {
+        Category category = fetchById(id);
+        Long parentId = category.getCategoryParentId();
+        int to = categoryMoveRequest.getOrderIndex();
+
+        if (to > categoryQueryRepository.countSiblings(parentId)) {
+            log.error("orderIndex는 형제 카테고리의 수보다 클 수 없습니다.");
+            throw new JpaCommunityException(INVALID_PARAMETER);
+        }
+
+        if (orderingProperties.isRankMode()) {
+            // 이동한 카테고리의 정렬 키만 변경 (order_index 는 비어 있을 수 있어 읽지 않는다)
+            if (moveByRank(id, parentId, to)) {
+                refreshAfterCommit();
+            }
+            return new CategoryResponse(category.getId(), category.getName(), to, category.getDepth(), parentId, null, category.getLink());
+        }
+
+        int from = category.getOrderIndex();
+        if (from != to) {
+            if (to < from) {
+                // 앞으로 이동: [to, from) 구간을 한 칸씩 뒤로
+                categoryQueryRepository.shiftOrderIndex(parentId, to, from - 1, 1);
+            } else {
+                // 뒤로 이동: (from, to] 구간을 한 칸씩 앞으로
+                categoryQueryRepository.shiftOrderIndex(parentId, from + 1, to, -1);
+            }
+            categoryQueryRepository.updateOrderIndex(id, to);
+            refreshAfterCommit();
+        }
+
+        // 벌크 UPDATE 후 영속성 컨텍스트가 비워졌으므로 조회해 둔 값으로 응답을 만든다
+        return new CategoryResponse(category.getId(), category.getName(), to, category.getDepth(), parentId, null, category.getLink());
+    }
+
+    // CategoryResponse 로 변환하여 반환, rank 정렬 모드에서는 order_index 가 위치와 다를 수 있으므로 트리 스냅샷에서 읽는다
     public CategoryResponse getById(Long id) {
+        if (orderingProperties.isRankMode()) {
+            return findInSnapshot(id);
+        }
         return new CategoryResponse(fetchById(id));
     }
 
-    // JPQL
+    // JPQL, rank 정렬 모드에서는 트리 스냅샷에서 읽는다
     public CategoryResponse getWithSortedChildrenById(Long id) {
+        if (orderingProperties.isRankMode()) {
+            return findInSnapshot(id);
+        }
         return new CategoryResponse(categoryRepository.getWithSortedChildrenById(id));
     }
 
-    // JPQL
-    public List<CategoryResponse> getRootCategories() {
-        final List<Category> all = categoryRepository.listSortedRootCategories();
-        return all.stream().map(CategoryResponse::fromWithoutChildren).collect(Collectors.toList());
+    private CategoryResponse findInSnapshot(Long id) {
+        return categoryTreeCache.get().find(id)
+                .orElseThrow(() -> new JpaCommunityException(RESOURCE_NOT_FOUND, "id -> " + id + " 는 존재하지 않는 카테고리 입니다"));
     }
 
-    // JPQL
+    // 트리 스냅샷 (DB 조회 없음)
     public List<CategoryResponse> getAllCategories() {
-        final List<Category> all = categoryRepository.listSortedWithHierarchy();
-        return all.stream().map(CategoryResponse::new).collect(Collectors.toList());
+        return categoryTreeCache.get().getRoots();
+    }
+
+    // 현재 트리 스냅샷. 본문과 ETag 를 같은 스냅샷에서 꺼낼 때 사용한다.
+    public CategoryTree getCategoryTree() {
+        return categoryTreeCache.get();
     }
 
     /**
@@ -196,17 +301,6 @@ public class CategoryService {
         }
     }
 
-    /**
-     * 최상위 카테고리 순번 재정렬
-     *
-     * @param topLevelCategories 최상위 카테고리 목록
-     */
-    public void reorderTopLevelCategories(List<Category> topLevelCategories) {
-        for (int i = 0; i < topLevelCategories.size(); i++) {
-            topLevelCategories.get(i).updateOrderIndex(i + 1);
-        }
-    }
-
     /**
      * 카테고리 순번을 설정
      * @param parent 부모 카테고리
@@ -225,17 +319,6 @@ public class CategoryService {
         return (list == null) ? 1 : list.size() + 1;
     }
 
-    /**
-     * 카테고리 순번을 사이즈에 맞게 재정렬한다.
-     *
-     * @param category 카테고리
-     */
-    private void reorderChildren(Category category) {
-        for (int i = 0; i < category.getChildren().size(); i++) {
-            category.getChildren().get(i).updateOrderIndex(i + 1);
-        }
-    }
-
     // 공통 메서드: Category 엔티티를 반환
     public Category fetchById(Long id) {
         return categoryRepository.findById(id)
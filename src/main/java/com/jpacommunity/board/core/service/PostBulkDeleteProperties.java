@@ -0,0 +1,17 @@
+package com.jpacommunity.board.core.service;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@Getter
+@ConfigurationProperties("board.post-bulk-delete")
+public class PostBulkDeleteProperties {
+    private final int chunkSize; // IN 절 하나에 담는 최대 ID 수
+
+    @ConstructorBinding
+    public PostBulkDeleteProperties(@DefaultValue("500") int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+}
@@ -0,0 +1,51 @@
+package com.jpacommunity.board.core.service;
+
+import com.jpacommunity.board.api.controller.response.PostDetailResponse;
+import com.jpacommunity.board.core.cache.PostDetailCache;
+import com.jpacommunity.board.core.repository.post.PostQueryRepository;
+import com.jpacommunity.global.exception.JpaCommunityException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+import static com.jpacommunity.global.exception.ErrorCode.RESOURCE_NOT_FOUND;
+
+/**
+ * 게시글 조회 전용 서비스
+ *
+ * 캐시 히트 시 DB 커넥션을 잡지 않도록 트랜잭션을 선언하지 않는다.
+ * miss 인 경우에도 단일 fetch join 쿼리로 필요한 연관 엔티티를 모두 읽는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PostQueryService {
+    private final PostQueryRepository postQueryRepository;
+    private final PostDetailCache postDetailCache;
+
+    /**
+     * 게시글 상세 조회 (첨부파일 포함)
+     *
+     * @param postId 게시글 ID
+     * @return PostDetailResponse
+     */
+    public PostDetailResponse getDetail(Long postId) {
+        return postDetailCache.get(postId, this::loadDetail);
+    }
+
+    /**
+     * 첨부파일이 속한 게시글 ID 조회 (첨부파일 삭제 후 상세 캐시 무효화용)
+     *
+     * @param attachmentId 첨부파일 ID
+     * @return 게시글 ID
+     */
+    public Optional<Long> findPostIdByAttachmentId(Long attachmentId) {
+        return postQueryRepository.findPostIdByAttachmentId(attachmentId);
+    }
+
+    private PostDetailResponse loadDetail(Long postId) {
+        return postQueryRepository.findDetailById(postId)
+                .map(PostDetailResponse::of)
+                .orElseThrow(() -> new JpaCommunityException(RESOURCE_NOT_FOUND, "id -> " + postId + " 는 존재하지 않는 게시글 입니다"));
+    }
+}
@@ -1,10 +1,17 @@
 package com.jpacommunity.board.core.service;
 
+import com.jpacommunity.board.api.controller.response.PostBulkDeleteResponse;
 import com.jpacommunity.board.api.controller.response.PostResponse;
+import com.jpacommunity.board.api.controller.response.PostSliceResponse;
 import com.jpacommunity.board.api.dto.PostCreateRequest;
 import com.jpacommunity.board.api.dto.PostUpdateRequest;
+import com.jpacommunity.board.core.cache.PostDetailCache;
 import com.jpacommunity.board.core.entity.Category;
 import com.jpacommunity.board.core.entity.Post;
+import com.jpacommunity.board.core.file.AttachmentFile;
+import com.jpacommunity.board.core.file.AttachmentFilesDeletedEvent;
+import com.jpacommunity.board.core.repository.post.PostBulkDeleteRepository;
+import com.jpacommunity.board.core.repository.post.PostQueryRepository;
 import com.jpacommunity.board.core.repository.post.PostRepository;
 import com.jpacommunity.global.exception.ErrorCode;
 import com.jpacommunity.global.exception.JpaCommunityException;
@@ -12,13 +19,18 @@ import com.jpacommunity.member.entity.Member;
 import com.jpacommunity.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 
+import static com.jpacommunity.global.exception.ErrorCode.INVALID_PARAMETER;
 import static com.jpacommunity.global.exception.ErrorCode.RESOURCE_NOT_FOUND;
 
 @Slf4j
@@ -26,9 +38,15 @@ import static com.jpacommunity.global.exception.ErrorCode.RESOURCE_NOT_FOUND;
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class PostService {
+    public static final List<Integer> PAGE_SIZES = List.of(50, 100, 150); // REQUIREMENT 2.7
     private final CategoryService categoryService;
     private final AttachmentService attachmentService;
     private final PostRepository postRepository;
+    private final PostQueryRepository postQueryRepository;
+    private final PostDetailCache postDetailCache;
+    private final PostBulkDeleteRepository postBulkDeleteRepository;
+    private final PostBulkDeleteProperties postBulkDeleteProperties;
+    private final ApplicationEventPublisher eventPublisher;
     private final MemberRepository memberRepository;
 
     @Transactional
@@ -57,9 +75,11 @@ public class PostService {
      */
     @Transactional
     public PostResponse update(PostUpdateRequest postUpdateRequest) throws Exception {
-        // 1. 게시글 수정
-        Post post = fetchById(postUpdateRequest.getId());
+        // 1. 게시글 수정 (응답에 카테고리가 필요하므로 함께 조회)
+        Post post = postQueryRepository.findWithCategoryById(postUpdateRequest.getId())
+                .orElseThrow(() -> new JpaCommunityException(RESOURCE_NOT_FOUND, "id -> " + postUpdateRequest.getId() + " 는 존재하지 않는 게시글 입니다"));
         post.update(postUpdateRequest);
+        postDetailCache.evict(post.getId());
 
         // Post 생성 및 저장
         return new PostResponse(post);
@@ -68,7 +88,7 @@ public class PostService {
     // 단일 게시글 삭제
     @Transactional
     public PostResponse delete(long id) {
-        // 삭제 게시글 조회
+        // 삭제 게시글 조회 (연관 엔티티는 읽지 않는다)
         Post post = fetchById(id);
 
         // 외래키 관계로 먼저 삭제해야 함
@@ -77,24 +97,69 @@ public class PostService {
 
         // DB 삭제
         postRepository.delete(post);
+        postDetailCache.evict(id);
 
         // 삭제된 게시글 Id 를 담은 Response 반환
         return new PostResponse(post.getId());
     }
 
-    // 여러 게시글 삭제
+    /**
+     * 여러 게시글 일괄 삭제
+     *
+     * chunkSize 개씩 나누어 청크마다 존재 ID 조회, 첨부파일 경로 조회, 첨부파일 벌크 삭제, 게시글 벌크 삭제 4개의 쿼리만 실행한다.
+     * 물리 파일은 커밋 후 AttachmentFileCleaner 가 비동기로 정리한다.
+     *
+     * @param ids 삭제할 게시글 ID 목록
+     * @return 삭제된 ID 와 존재하지 않는 ID
+     */
     @Transactional
-    public PostResponse deleteAllByIdIn(List<Long> ids) {
-        List<Long> deletedIds = new ArrayList();
+    public PostBulkDeleteResponse deleteAllByIdIn(List<Long> ids) {
         if (ids == null || ids.isEmpty()) {
-            throw new JpaCommunityException(ErrorCode.INVALID_PARAMETER, "삭제할 ID 목록이 비어 있습니다.");
+            throw new JpaCommunityException(INVALID_PARAMETER, "삭제할 ID 목록이 비어 있습니다.");
         }
 
-        for (Long id : ids) {
-            deletedIds.add(delete(id).getId());
+        List<Long> requestedIds = ids.stream().filter(Objects::nonNull).distinct().toList();
+        List<Long> deletedIds = new ArrayList<>();
+        List<Long> missingIds = new ArrayList<>();
+        List<AttachmentFile> files = new ArrayList<>();
+        int chunkSize = postBulkDeleteProperties.getChunkSize();
+
+        for (int from = 0; from < requestedIds.size(); from += chunkSize) {
+            List<Long> chunk = requestedIds.subList(from, Math.min(from + chunkSize, requestedIds.size()));
+
+            Set<Long> existingIds = new HashSet<>(postBulkDeleteRepository.findExistingIds(chunk));
+            for (Long id : chunk) {
+                (existingIds.contains(id) ? deletedIds : missingIds).add(id);
+            }
+            if (existingIds.isEmpty()) {
+                continue;
+            }
+
+            // 외래키 관계로 첨부파일 먼저 삭제
+            files.addAll(postBulkDeleteRepository.findAttachmentFiles(existingIds));
+            postBulkDeleteRepository.deleteAttachmentsByPostIds(existingIds);
+            postBulkDeleteRepository.deletePostsByIds(existingIds);
+            existingIds.forEach(postDetailCache::evict);
         }
 
-        return new PostResponse(deletedIds);
+        eventPublisher.publishEvent(new AttachmentFilesDeletedEvent(files));
+        log.info("게시글 일괄 삭제 - 삭제: {}, 없음: {}, 첨부파일: {}", deletedIds.size(), missingIds.size(), files.size());
+        return new PostBulkDeleteResponse(deletedIds, missingIds);
+    }
+
+    /**
+     * 게시글 목록 조회 (키셋 페이지)
+     *
+     * @param categoryId 카테고리 ID, null 이면 전체
+     * @param after 이전 페이지의 nextCursor, null 이면 첫 페이지
+     * @param size 페이지 크기 (50, 100, 150)
+     * @return PostSliceResponse
+     */
+    public PostSliceResponse list(Long categoryId, Long after, int size) {
+        if (!PAGE_SIZES.contains(size)) {
+            throw new JpaCommunityException(INVALID_PARAMETER, "페이지 크기는 " + PAGE_SIZES + " 중 하나여야 합니다");
+        }
+        return postQueryRepository.findSlice(categoryId, after, size);
     }
 
     // 공통 메서드: Category 엔티티를 반환
@@ -102,13 +167,4 @@ public class PostService {
         return postRepository.findById(id)
                 .orElseThrow(() -> new JpaCommunityException(RESOURCE_NOT_FOUND, "id -> " + id + " 는 존재하지 않는 게시글 입니다"));
     }
-
-    /**
-     * Post 객체를 ID로 조회
-     * @param postId 게시물 ID
-     * @return 조회된 Post 객체
-     */
-    private PostResponse getById(Long postId) {
-        return new PostResponse(fetchById(postId));
-    }
 }
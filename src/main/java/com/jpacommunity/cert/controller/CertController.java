@@ -3,6 +3,7 @@ package com.jpacommunity.cert.controller;
 import com.jpacommunity.cert.dto.CertEmailRequest;
 import com.jpacommunity.cert.service.CertService;
 import com.jpacommunity.global.exception.JpaCommunityException;
+import com.jpacommunity.global.ratelimit.RateLimited;
 import com.jpacommunity.common.web.response.ResponseDto;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -25,14 +26,20 @@ import static com.jpacommunity.common.web.response.ResponseStatus.SUCCESS;
 public class CertController {
     private final CertService certService;
 
+    // 메일 발송 남용 방지: IP 기준과 수신 이메일 기준을 함께 제한
     @PostMapping("/send")
+    @RateLimited(key = RateLimited.IP, permits = 10, window = "10m", name = "cert.send")
+    @RateLimited(key = "#certEmailRequest.email", permits = 3, window = "10m", name = "cert.send")
     public ResponseEntity<?> sendCertificationEmail(@Valid @RequestBody CertEmailRequest certEmailRequest, BindingResult bindingResult) {
         log.info("send-certification email: {}", certEmailRequest.getEmail());
          certService.send(certEmailRequest.getEmail());
         return new ResponseEntity<>(new ResponseDto<>(SUCCESS.getValue(), "인증 코드 이메일 전송 성공", null), HttpStatus.OK);
     }
 
+    // 인증 코드 대입 방지
     @PostMapping("/certify-code")
+    @RateLimited(key = RateLimited.IP, permits = 30, window = "10m", name = "cert.certify-code")
+    @RateLimited(key = "#certEmailRequest.email", permits = 5, window = "10m", name = "cert.certify-code")
     public ResponseEntity<?> certifyCode(@Valid @RequestBody CertEmailRequest certEmailRequest, BindingResult bindingResult) {
         String code = certEmailRequest.getCode(); // 인증 코드
         String email = certEmailRequest.getEmail(); // 이메일
@@ -5,7 +5,7 @@ import org.springframework.data.domain.AuditorAware;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 
-import com.jpacommunity.security.dto.CustomUserDetails;
+import com.jpacommunity.security.dto.MemberPrincipal;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -24,7 +24,7 @@ public class AuditorAwareImpl implements AuditorAware<String> {
         UUID publicId = null;
 
         try {
-            CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+            MemberPrincipal userDetails = (MemberPrincipal) authentication.getPrincipal();
             publicId = userDetails.getPublicId();
         } catch (Exception e) {
             return JpaCommunity.NAME.describeConstable();
@@ -0,0 +1,27 @@
+package com.jpacommunity.common.util.hash;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+public class TokenHashUtil {
+    private static final String ALGORITHM = "SHA-256";
+
+    /**
+     * 토큰의 SHA-256 다이제스트를 16진수 문자열(64자)로 반환
+     *
+     * @param token 원본 토큰
+     * @return String 고정 길이 해시
+     */
+    public static String sha256Hex(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance(ALGORITHM);
+            byte[] digest = messageDigest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM 은 SHA-256 을 지원해야 한다
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -36,7 +36,16 @@ public enum ErrorCode {
 
     // 409 Conflict,
     USER_ALREADY_EXISTS(HttpStatus.CONFLICT, "User already exists"),
-    RESOURCE_CONFLICT(HttpStatus.CONFLICT, "Resource is in a state that prevents this operation");
+    RESOURCE_CONFLICT(HttpStatus.CONFLICT, "Resource is in a state that prevents this operation"),
+
+    // 413 Payload Too Large
+    PAYLOAD_TOO_LARGE(HttpStatus.PAYLOAD_TOO_LARGE, "Request body is too large"),
+
+    // 429 Too Many Requests
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "Too many requests, please retry later"),
+
+    // 503 Service Unavailable
+    SERVICE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "Server is busy, please retry later");
 
     private final HttpStatus status;
     private final String msg;
@@ -0,0 +1,24 @@
+package com.jpacommunity.global.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * 요청 제한 카운터 저장소
+ * 단일 인스턴스는 InMemoryCounterStore, 여러 인스턴스가 한도를 공유해야 하면 KeyValueCounterStore 를 사용한다. (rate-limit.store)
+ */
+public interface CounterStore {
+
+    /**
+     * 카운터를 1 증가시키고 증가된 값을 반환. 키가 없거나 만료되었으면 ttl 로 새로 만든다.
+     */
+    long increment(String key, Duration ttl);
+
+    /**
+     * 현재 값. 없거나 만료되었으면 0
+     */
+    long get(String key);
+
+    void put(String key, long value, Duration ttl);
+
+    void delete(String key);
+}
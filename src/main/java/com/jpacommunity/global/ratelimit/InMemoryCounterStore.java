@@ -0,0 +1,79 @@
+package com.jpacommunity.global.ratelimit;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 프로세스 내 카운터 저장소
+ * 증가는 AtomicLong CAS 로 처리하고, 만료된 카운터 교체도 ConcurrentHashMap 의 원자 연산(putIfAbsent/replace)만 사용한다.
+ */
+public class InMemoryCounterStore implements CounterStore {
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    @Override
+    public long increment(String key, Duration ttl) {
+        long now = System.currentTimeMillis();
+        while (true) {
+            Counter counter = counters.get(key);
+            if (counter != null && !counter.isExpired(now)) {
+                return counter.value.incrementAndGet();
+            }
+
+            Counter fresh = new Counter(0, now + ttl.toMillis());
+            boolean installed = counter == null
+                    ? counters.putIfAbsent(key, fresh) == null
+                    : counters.replace(key, counter, fresh);
+            if (installed) {
+                return fresh.value.incrementAndGet();
+            }
+            // 다른 스레드가 먼저 교체한 경우 다시 시도
+        }
+    }
+
+    @Override
+    public long get(String key) {
+        Counter counter = counters.get(key);
+        if (counter == null || counter.isExpired(System.currentTimeMillis())) {
+            return 0;
+        }
+        return counter.value.get();
+    }
+
+    @Override
+    public void put(String key, long value, Duration ttl) {
+        counters.put(key, new Counter(value, System.currentTimeMillis() + ttl.toMillis()));
+    }
+
+    @Override
+    public void delete(String key) {
+        counters.remove(key);
+    }
+
+    @Scheduled(fixedDelay = 60000) // 1분마다 실행
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        counters.values().removeIf(counter -> counter.isExpired(now));
+    }
+
+    int size() {
+        return counters.size();
+    }
+
+    private static class Counter {
+        private final AtomicLong value;
+        private final long expiresAtMillis;
+
+        Counter(long value, long expiresAtMillis) {
+            this.value = new AtomicLong(value);
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        boolean isExpired(long now) {
+            return expiresAtMillis <= now;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.jpacommunity.global.ratelimit;
+
+import com.jpacommunity.jwt.store.KeyValueClient;
+
+import java.time.Duration;
+
+/**
+ * 공유 키-값 저장소(KeyValueClient) 기반 카운터 저장소
+ * 외부 클라이언트 빈이 없으면 EmbeddedKeyValueClient 가 대신 사용된다.
+ */
+public class KeyValueCounterStore implements CounterStore {
+    private static final String KEY_PREFIX = "rate:";
+
+    private final KeyValueClient keyValueClient;
+
+    public KeyValueCounterStore(KeyValueClient keyValueClient) {
+        this.keyValueClient = keyValueClient;
+    }
+
+    @Override
+    public long increment(String key, Duration ttl) {
+        return keyValueClient.increment(KEY_PREFIX + key, ttl);
+    }
+
+    @Override
+    public long get(String key) {
+        String value = keyValueClient.get(KEY_PREFIX + key);
+        return value == null ? 0 : Long.parseLong(value);
+    }
+
+    @Override
+    public void put(String key, long value, Duration ttl) {
+        keyValueClient.set(KEY_PREFIX + key, String.valueOf(value), ttl);
+    }
+
+    @Override
+    public void delete(String key) {
+        keyValueClient.delete(KEY_PREFIX + key);
+    }
+}
@@ -0,0 +1,126 @@
+package com.jpacommunity.global.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * 로그인 시도 제한 (IP, 계정별)
+ *
+ * 슬라이딩 윈도는 현재/직전 고정 윈도 카운터 두 개로 근사한다.
+ * 추정치 = 직전 윈도 횟수 * (직전 윈도가 겹치는 비율) + 현재 윈도 횟수
+ * 한도를 넘으면 lockout 동안 차단하며, strikeTtl 안에 다시 넘을 때마다 차단 시간이 두 배가 된다. (최대 maxLockout)
+ * 로그인에 성공하면 해당 계정의 카운터와 차단 이력을 지운다.
+ */
+@Slf4j
+public class LoginThrottle {
+    private static final String DIMENSION_IP = "ip";
+    private static final String DIMENSION_USERNAME = "user";
+
+    private final LoginThrottleProperties properties;
+    private final CounterStore counterStore;
+    private final Clock clock;
+
+    public LoginThrottle(LoginThrottleProperties properties, CounterStore counterStore, Clock clock) {
+        this.properties = properties;
+        this.counterStore = counterStore;
+        this.clock = clock;
+    }
+
+    /**
+     * IP 기준 시도 1회 기록
+     *
+     * @param clientIp 요청 IP
+     * @return 허용이면 0, 차단이면 재시도까지 남은 초
+     */
+    public long tryAcquireIp(String clientIp) {
+        return tryAcquire(DIMENSION_IP, clientIp, properties.getIpLimit());
+    }
+
+    /**
+     * 계정 기준 시도 1회 기록
+     *
+     * @param username 로그인 요청 username
+     * @return 허용이면 0, 차단이면 재시도까지 남은 초
+     */
+    public long tryAcquireUsername(String username) {
+        if (username == null || username.isBlank()) {
+            return 0;
+        }
+        return tryAcquire(DIMENSION_USERNAME, normalize(username), properties.getUsernameLimit());
+    }
+
+    /**
+     * 로그인 성공 시 계정 카운터와 차단 이력 초기화
+     */
+    public void reset(String username) {
+        if (!properties.isEnabled() || username == null) {
+            return;
+        }
+        String id = normalize(username);
+        long windowIndex = clock.millis() / properties.getWindow().toMillis();
+        counterStore.delete(windowKey(DIMENSION_USERNAME, id, windowIndex));
+        counterStore.delete(windowKey(DIMENSION_USERNAME, id, windowIndex - 1));
+        counterStore.delete(strikeKey(DIMENSION_USERNAME, id));
+        counterStore.delete(lockKey(DIMENSION_USERNAME, id));
+    }
+
+    private long tryAcquire(String dimension, String id, int limit) {
+        if (!properties.isEnabled() || id == null) {
+            return 0;
+        }
+
+        long now = clock.millis();
+        long lockedUntil = counterStore.get(lockKey(dimension, id));
+        if (lockedUntil > now) {
+            return toRetryAfterSeconds(lockedUntil - now);
+        }
+
+        long windowMillis = properties.getWindow().toMillis();
+        long windowIndex = now / windowMillis;
+        double previousWeight = 1.0 - (double) (now % windowMillis) / windowMillis;
+
+        long current = counterStore.increment(windowKey(dimension, id, windowIndex), properties.getWindow().multipliedBy(2));
+        long previous = counterStore.get(windowKey(dimension, id, windowIndex - 1));
+        if (previous * previousWeight + current <= limit) {
+            return 0;
+        }
+
+        long strikes = counterStore.increment(strikeKey(dimension, id), properties.getStrikeTtl());
+        Duration lockout = lockoutFor(strikes);
+        counterStore.put(lockKey(dimension, id), now + lockout.toMillis(), lockout);
+        log.warn("로그인 시도 제한 - {}: {}, 연속 {}회, 차단 {}s", dimension, id, strikes, lockout.toSeconds());
+        return toRetryAfterSeconds(lockout.toMillis());
+    }
+
+    /**
+     * lockout * 2^(strikes - 1), 최대 maxLockout
+     */
+    Duration lockoutFor(long strikes) {
+        int shift = (int) Math.min(Math.max(strikes - 1, 0), 30);
+        long millis = properties.getLockout().toMillis() << shift;
+        return Duration.ofMillis(Math.min(millis, properties.getMaxLockout().toMillis()));
+    }
+
+    private static long toRetryAfterSeconds(long millis) {
+        return Math.max(1, (millis + 999) / 1000);
+    }
+
+    private static String normalize(String username) {
+        return username.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String windowKey(String dimension, String id, long windowIndex) {
+        return "login:" + dimension + ":" + id + ":" + windowIndex;
+    }
+
+    private static String strikeKey(String dimension, String id) {
+        return "login:" + dimension + ":" + id + ":strikes";
+    }
+
+    private static String lockKey(String dimension, String id) {
+        return "login:" + dimension + ":" + id + ":lock";
+    }
+}
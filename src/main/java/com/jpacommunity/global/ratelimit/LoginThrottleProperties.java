@@ -0,0 +1,37 @@
+package com.jpacommunity.global.ratelimit;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@Getter
+@ConfigurationProperties("rate-limit.login")
+public class LoginThrottleProperties {
+    private final boolean enabled;
+    private final Duration window; // 슬라이딩 윈도 크기
+    private final int ipLimit; // 윈도 내 IP 당 최대 로그인 시도
+    private final int usernameLimit; // 윈도 내 계정 당 최대 로그인 시도
+    private final Duration lockout; // 첫 차단 시간. 연속 차단마다 두 배
+    private final Duration maxLockout;
+    private final Duration strikeTtl; // 연속 차단 횟수 유지 시간
+
+    @ConstructorBinding
+    public LoginThrottleProperties(@DefaultValue("true") boolean enabled,
+                                   @DefaultValue("1m") Duration window,
+                                   @DefaultValue("30") int ipLimit,
+                                   @DefaultValue("5") int usernameLimit,
+                                   @DefaultValue("30s") Duration lockout,
+                                   @DefaultValue("15m") Duration maxLockout,
+                                   @DefaultValue("1h") Duration strikeTtl) {
+        this.enabled = enabled;
+        this.window = window;
+        this.ipLimit = ipLimit;
+        this.usernameLimit = usernameLimit;
+        this.lockout = lockout;
+        this.maxLockout = maxLockout;
+        this.strikeTtl = strikeTtl;
+    }
+}
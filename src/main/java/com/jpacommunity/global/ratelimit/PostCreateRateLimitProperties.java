@@ -0,0 +1,45 @@
+package com.jpacommunity.global.ratelimit;
+
+import com.jpacommunity.member.domain.MemberRole;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Getter
+@ConfigurationProperties("rate-limit.post-create")
+public class PostCreateRateLimitProperties {
+    private static final Limit DEFAULT_MEMBER_LIMIT = new Limit(5, Duration.ofMinutes(1));
+    private static final Limit DEFAULT_IP_LIMIT = new Limit(20, Duration.ofMinutes(1));
+
+    private final boolean enabled;
+    private final Map<MemberRole, Limit> roles; // 회원 권한별 한도, 없는 권한은 USER 와 같은 기본값
+    private final Limit ip; // IP 당 한도
+    private final Duration idleTimeout; // 사용되지 않은 버킷 제거 시간 (충전 주기보다 길어야 한다)
+
+    @ConstructorBinding
+    public PostCreateRateLimitProperties(@DefaultValue("true") boolean enabled,
+                                         Map<MemberRole, Limit> roles,
+                                         Limit ip,
+                                         @DefaultValue("10m") Duration idleTimeout) {
+        this.enabled = enabled;
+        this.roles = roles == null ? new EnumMap<>(MemberRole.class) : new EnumMap<>(roles);
+        this.ip = ip == null ? DEFAULT_IP_LIMIT : ip;
+        this.idleTimeout = idleTimeout;
+    }
+
+    public Limit forRole(MemberRole role) {
+        return roles.getOrDefault(role, DEFAULT_MEMBER_LIMIT);
+    }
+
+    /**
+     * @param capacity 연속으로 허용되는 최대 요청 수
+     * @param refillPeriod 빈 버킷이 가득 차는 데 걸리는 시간
+     */
+    public record Limit(int capacity, Duration refillPeriod) {
+    }
+}
@@ -0,0 +1,71 @@
+package com.jpacommunity.global.ratelimit;
+
+import com.jpacommunity.global.exception.JpaCommunityException;
+import com.jpacommunity.global.ratelimit.PostCreateRateLimitProperties.Limit;
+import com.jpacommunity.member.domain.MemberRole;
+import com.jpacommunity.security.dto.MemberPrincipal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.time.Clock;
+import java.util.Map;
+
+import static com.jpacommunity.global.exception.ErrorCode.TOO_MANY_REQUESTS;
+
+/**
+ * 게시글 연속 작성 제한 (REQUIREMENT 2.2)
+ * 회원 publicId 와 요청 IP 에 각각 토큰 버킷을 두고, 둘 중 하나라도 비어 있으면 429 로 거부한다.
+ */
+@Slf4j
+public class PostCreateRateLimiter {
+    private final PostCreateRateLimitProperties properties;
+    private final TokenBucketLimiter limiter;
+
+    public PostCreateRateLimiter(PostCreateRateLimitProperties properties, Clock clock) {
+        this.properties = properties;
+        this.limiter = new TokenBucketLimiter(clock, properties.getIdleTimeout());
+    }
+
+    /**
+     * 게시글 작성 1회 허용 여부 확인
+     *
+     * @param principal 작성자
+     * @param clientIp 요청 IP
+     * @throws JpaCommunityException TOO_MANY_REQUESTS, errorMap 의 retryAfterSeconds 에 재시도까지 남은 초
+     */
+    public void check(MemberPrincipal principal, String clientIp) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        Limit ipLimit = properties.getIp();
+        long retryAfterMillis = limiter.tryAcquire("ip:" + clientIp, ipLimit.capacity(), ipLimit.refillPeriod());
+        if (retryAfterMillis == 0 && principal != null) {
+            Limit memberLimit = properties.forRole(roleOf(principal));
+            retryAfterMillis = limiter.tryAcquire("member:" + principal.getPublicId(), memberLimit.capacity(), memberLimit.refillPeriod());
+        }
+
+        if (retryAfterMillis > 0) {
+            log.warn("게시글 작성 제한 - ip: {}, publicId: {}", clientIp, principal == null ? null : principal.getPublicId());
+            long retryAfterSeconds = (retryAfterMillis + 999) / 1000;
+            throw new JpaCommunityException(TOO_MANY_REQUESTS, Map.of("retryAfterSeconds", String.valueOf(retryAfterSeconds)));
+        }
+    }
+
+    @Scheduled(fixedDelay = 60000) // 1분마다 실행
+    public void evictIdle() {
+        limiter.evictIdle();
+    }
+
+    private static MemberRole roleOf(MemberPrincipal principal) {
+        for (GrantedAuthority authority : principal.getAuthorities()) {
+            for (MemberRole role : MemberRole.values()) {
+                if (role.name().equals(authority.getAuthority())) {
+                    return role;
+                }
+            }
+        }
+        return MemberRole.USER;
+    }
+}
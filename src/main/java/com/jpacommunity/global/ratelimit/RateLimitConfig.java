@@ -0,0 +1,37 @@
+package com.jpacommunity.global.ratelimit;
+
+import com.jpacommunity.jwt.store.KeyValueClient;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+/**
+ * rate-limit.store 에 따라 CounterStore 구현체 등록
+ */
+@Configuration
+public class RateLimitConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "rate-limit", name = "store", havingValue = "memory", matchIfMissing = true)
+    public InMemoryCounterStore inMemoryCounterStore() {
+        return new InMemoryCounterStore();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "rate-limit", name = "store", havingValue = "kv")
+    public CounterStore keyValueCounterStore(KeyValueClient keyValueClient) {
+        return new KeyValueCounterStore(keyValueClient);
+    }
+
+    @Bean
+    public LoginThrottle loginThrottle(LoginThrottleProperties properties, CounterStore counterStore) {
+        return new LoginThrottle(properties, counterStore, Clock.systemUTC());
+    }
+
+    @Bean
+    public PostCreateRateLimiter postCreateRateLimiter(PostCreateRateLimitProperties properties) {
+        return new PostCreateRateLimiter(properties, Clock.systemUTC());
+    }
+}
@@ -0,0 +1,46 @@
+package com.jpacommunity.global.ratelimit;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 메서드 호출 횟수 제한 (RateLimitAdvice 가 처리)
+ *
+ * 예) @RateLimited(key = RateLimited.IP, permits = 30, window = "1m")
+ *     @RateLimited(key = "#existMemberRequest.email", permits = 5, window = "10m")
+ * 여러 번 선언하면 모든 제한을 통과해야 호출된다. (예: IP 기준과 대상 이메일 기준을 함께)
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Repeatable(RateLimits.class)
+public @interface RateLimited {
+    /** 요청 IP 기준 */
+    String IP = "ip";
+    /** 인증된 회원 publicId 기준, 비로그인 요청은 IP 기준 */
+    String PRINCIPAL = "principal";
+
+    /**
+     * 제한 키. IP, PRINCIPAL 또는 메서드 파라미터를 참조하는 SpEL (예: #email)
+     */
+    String key() default IP;
+
+    /**
+     * window 안에 허용되는 호출 수
+     */
+    int permits();
+
+    /**
+     * 슬라이딩 윈도 크기 (예: 10s, 1m, 1h)
+     */
+    String window() default "1m";
+
+    /**
+     * 메트릭 태그와 제한 키에 쓰는 엔드포인트 이름. 비어 있으면 클래스명.메서드명
+     */
+    String name() default "";
+}
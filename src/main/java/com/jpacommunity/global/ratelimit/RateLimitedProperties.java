@@ -0,0 +1,23 @@
+package com.jpacommunity.global.ratelimit;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@Getter
+@ConfigurationProperties("rate-limit.annotated")
+public class RateLimitedProperties {
+    private final boolean enabled;
+    private final int shards; // 2의 거듭제곱
+    private final int maxEntriesPerShard; // 샤드당 최대 키 수, 초과 시 LRU 제거
+
+    @ConstructorBinding
+    public RateLimitedProperties(@DefaultValue("true") boolean enabled,
+                                 @DefaultValue("16") int shards,
+                                 @DefaultValue("4096") int maxEntriesPerShard) {
+        this.enabled = enabled;
+        this.shards = shards;
+        this.maxEntriesPerShard = maxEntriesPerShard;
+    }
+}
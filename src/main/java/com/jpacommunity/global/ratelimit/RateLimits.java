@@ -0,0 +1,17 @@
+package com.jpacommunity.global.ratelimit;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 여러 @RateLimited 를 담는 컨테이너. 직접 쓰지 않고 @RateLimited 를 반복 선언한다.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimits {
+    RateLimited[] value();
+}
@@ -0,0 +1,108 @@
+package com.jpacommunity.global.ratelimit;
+
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 키별 슬라이딩 윈도 카운터 (현재/직전 고정 윈도 두 개로 근사)
+ *
+ * 키 해시로 나눈 샤드마다 락과 접근 순서 LinkedHashMap 을 두어 서로 다른 샤드의 키는 경합하지 않는다.
+ * 샤드당 항목 수가 maxEntriesPerShard 를 넘으면 가장 오래 사용되지 않은 키부터 제거하므로 메모리 사용량은 고정된다.
+ */
+public class SlidingWindowRateLimiter {
+    private final Shard[] shards;
+    private final int shardMask;
+    private final Clock clock;
+
+    public SlidingWindowRateLimiter(int shards, int maxEntriesPerShard, Clock clock) {
+        if (Integer.bitCount(shards) != 1) {
+            throw new IllegalArgumentException("shards 는 2의 거듭제곱이어야 합니다: " + shards);
+        }
+        this.shards = new Shard[shards];
+        for (int i = 0; i < shards; i++) {
+            this.shards[i] = new Shard(maxEntriesPerShard);
+        }
+        this.shardMask = shards - 1;
+        this.clock = clock;
+    }
+
+    /**
+     * 호출 1회 기록
+     *
+     * @param key 제한 키
+     * @param permits 윈도 내 허용 횟수
+     * @param windowMillis 윈도 크기
+     * @return 허용이면 0, 거부면 다음 윈도까지 남은 ms
+     */
+    public long tryAcquire(String key, int permits, long windowMillis) {
+        long now = clock.millis();
+        long windowIndex = now / windowMillis;
+        long elapsedInWindow = now % windowMillis;
+        double previousWeight = 1.0 - (double) elapsedInWindow / windowMillis;
+
+        Shard shard = shards[spread(key.hashCode()) & shardMask];
+        shard.lock.lock();
+        try {
+            Window window = shard.windows.get(key);
+            if (window == null) {
+                window = new Window(windowIndex);
+                shard.windows.put(key, window);
+            } else if (window.index != windowIndex) {
+                window.previous = window.index == windowIndex - 1 ? window.current : 0;
+                window.current = 0;
+                window.index = windowIndex;
+            }
+
+            if (window.previous * previousWeight + window.current >= permits) {
+                return Math.max(1, windowMillis - elapsedInWindow);
+            }
+            window.current++;
+            return 0;
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    int size() {
+        int size = 0;
+        for (Shard shard : shards) {
+            shard.lock.lock();
+            try {
+                size += shard.windows.size();
+            } finally {
+                shard.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class Shard {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<String, Window> windows;
+
+        Shard(int maxEntries) {
+            this.windows = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Window> eldest) {
+                    return size() > maxEntries;
+                }
+            };
+        }
+    }
+
+    private static final class Window {
+        private long index;
+        private int current;
+        private int previous;
+
+        Window(long index) {
+            this.index = index;
+        }
+    }
+}
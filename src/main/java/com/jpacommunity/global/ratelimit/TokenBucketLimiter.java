@@ -0,0 +1,78 @@
+package com.jpacommunity.global.ratelimit;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 키별 토큰 버킷
+ *
+ * 버킷 하나는 AtomicLong 하나이며 상위 40bit 에 마지막 충전 시각(기준 시각으로부터의 ms), 하위 24bit 에 남은 토큰(1/1000 단위)을 담는다.
+ * 충전과 소비는 CAS 한 번으로 처리하므로 잠금이 없다.
+ * idleTimeout 동안 사용되지 않은 버킷은 evictIdle 에서 제거한다. idleTimeout 이 충전 주기보다 길면 제거된 버킷은 어차피 가득 찬 상태이므로 결과가 달라지지 않는다.
+ */
+public class TokenBucketLimiter {
+    private static final int TOKEN_BITS = 24;
+    private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+    private static final long MILLI_TOKENS = 1000;
+    public static final int MAX_CAPACITY = (int) (TOKEN_MASK / MILLI_TOKENS);
+
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final Clock clock;
+    private final long baseMillis;
+    private final long idleTimeoutMillis;
+
+    public TokenBucketLimiter(Clock clock, Duration idleTimeout) {
+        this.clock = clock;
+        this.baseMillis = clock.millis();
+        this.idleTimeoutMillis = idleTimeout.toMillis();
+    }
+
+    /**
+     * 토큰 1개 소비
+     *
+     * @param key 버킷 키
+     * @param capacity 버킷 크기 (최대 MAX_CAPACITY)
+     * @param refillPeriod 빈 버킷이 가득 차는 데 걸리는 시간
+     * @return 허용이면 0, 거부면 토큰 1개가 충전될 때까지 남은 ms
+     */
+    public long tryAcquire(String key, int capacity, Duration refillPeriod) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("capacity 는 1 ~ " + MAX_CAPACITY + " 사이여야 합니다: " + capacity);
+        }
+        long capacityMilli = capacity * MILLI_TOKENS;
+        long periodMillis = Math.max(1, refillPeriod.toMillis());
+        long now = clock.millis() - baseMillis;
+
+        AtomicLong bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(pack(now, capacityMilli)));
+        while (true) {
+            long state = bucket.get();
+            long elapsed = Math.max(0, now - (state >>> TOKEN_BITS));
+            long available = elapsed >= periodMillis
+                    ? capacityMilli
+                    : Math.min(capacityMilli, (state & TOKEN_MASK) + elapsed * capacityMilli / periodMillis);
+
+            if (available < MILLI_TOKENS) {
+                return Math.max(1, (MILLI_TOKENS - available) * periodMillis / capacityMilli);
+            }
+            if (bucket.compareAndSet(state, pack(Math.max(now, state >>> TOKEN_BITS), available - MILLI_TOKENS))) {
+                return 0;
+            }
+        }
+    }
+
+    public void evictIdle() {
+        long now = clock.millis() - baseMillis;
+        buckets.values().removeIf(bucket -> now - (bucket.get() >>> TOKEN_BITS) >= idleTimeoutMillis);
+    }
+
+    int size() {
+        return buckets.size();
+    }
+
+    private static long pack(long millis, long milliTokens) {
+        return (millis << TOKEN_BITS) | milliTokens;
+    }
+}
@@ -0,0 +1,129 @@
+package com.jpacommunity.global.validation.aop;
+
+import com.jpacommunity.global.exception.JpaCommunityException;
+import com.jpacommunity.global.ratelimit.RateLimited;
+import com.jpacommunity.global.ratelimit.RateLimitedProperties;
+import com.jpacommunity.global.ratelimit.SlidingWindowRateLimiter;
+import com.jpacommunity.security.dto.MemberPrincipal;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.Order;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.lang.reflect.Method;
+import java.time.Clock;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.jpacommunity.global.exception.ErrorCode.TOO_MANY_REQUESTS;
+
+/**
+ * @RateLimited 메서드 호출 횟수 제한
+ *
+ * 거부 횟수는 rate.limit.rejected{endpoint=...} 메트릭으로 노출된다.
+ * 검증(CustomValidationAdvice)보다 먼저 실행되어 거부된 요청은 바인딩 결과를 확인하지 않는다.
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RateLimitAdvice {
+    private final boolean enabled;
+    private final SlidingWindowRateLimiter limiter;
+    private final MeterRegistry meterRegistry;
+    private final SpelExpressionParser parser = new SpelExpressionParser();
+    private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+    private final Map<Method, List<Endpoint>> endpoints = new ConcurrentHashMap<>();
+
+    public RateLimitAdvice(RateLimitedProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.limiter = new SlidingWindowRateLimiter(properties.getShards(), properties.getMaxEntriesPerShard(), Clock.systemUTC());
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("@annotation(com.jpacommunity.global.ratelimit.RateLimited) || @annotation(com.jpacommunity.global.ratelimit.RateLimits)")
+    public Object rateLimitAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        if (!enabled) {
+            return proceedingJoinPoint.proceed();
+        }
+
+        Method method = ((MethodSignature) proceedingJoinPoint.getSignature()).getMethod();
+        List<Endpoint> methodEndpoints = endpoints.computeIfAbsent(method, this::createEndpoints);
+
+        for (Endpoint endpoint : methodEndpoints) {
+            String key = endpoint.name() + ":" + endpoint.key() + ":" + resolveKey(endpoint, method, proceedingJoinPoint.getArgs());
+            long retryAfterMillis = limiter.tryAcquire(key, endpoint.permits(), endpoint.windowMillis());
+            if (retryAfterMillis > 0) {
+                endpoint.rejected().increment();
+                log.warn("요청 횟수 제한 - key: {}", key);
+                long retryAfterSeconds = (retryAfterMillis + 999) / 1000;
+                throw new JpaCommunityException(TOO_MANY_REQUESTS, Map.of("retryAfterSeconds", String.valueOf(retryAfterSeconds)));
+            }
+        }
+        return proceedingJoinPoint.proceed();
+    }
+
+    private List<Endpoint> createEndpoints(Method method) {
+        return AnnotatedElementUtils.findMergedRepeatableAnnotations(method, RateLimited.class).stream()
+                .map(rateLimited -> createEndpoint(method, rateLimited))
+                .toList();
+    }
+
+    private Endpoint createEndpoint(Method method, RateLimited rateLimited) {
+        String name = rateLimited.name().isEmpty()
+                ? method.getDeclaringClass().getSimpleName() + "." + method.getName()
+                : rateLimited.name();
+        long windowMillis = DurationStyle.detectAndParse(rateLimited.window()).toMillis();
+        String key = rateLimited.key();
+        Expression expression = RateLimited.IP.equals(key) || RateLimited.PRINCIPAL.equals(key) ? null : parser.parseExpression(key);
+        Counter rejected = Counter.builder("rate.limit.rejected")
+                .description("@RateLimited 로 거부된 요청 수")
+                .tag("endpoint", name)
+                .register(meterRegistry);
+        return new Endpoint(name, rateLimited.permits(), windowMillis, key, expression, rejected);
+    }
+
+    private String resolveKey(Endpoint endpoint, Method method, Object[] args) {
+        if (endpoint.expression() != null) {
+            MethodBasedEvaluationContext context = new MethodBasedEvaluationContext(null, method, args, parameterNameDiscoverer);
+            return String.valueOf(endpoint.expression().getValue(context));
+        }
+        if (RateLimited.PRINCIPAL.equals(endpoint.key())) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.getPrincipal() instanceof MemberPrincipal principal) {
+                return principal.getPublicId().toString();
+            }
+        }
+        return clientIp();
+    }
+
+    private static String clientIp() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            HttpServletRequest request = attributes.getRequest();
+            return request.getRemoteAddr();
+        }
+        return "unknown";
+    }
+
+    private record Endpoint(String name, int permits, long windowMillis, String key, Expression expression, Counter rejected) {
+    }
+}
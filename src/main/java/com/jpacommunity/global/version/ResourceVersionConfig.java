@@ -0,0 +1,17 @@
+package com.jpacommunity.global.version;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class ResourceVersionConfig implements WebMvcConfigurer {
+    private final ResourceVersionInterceptor resourceVersionInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(resourceVersionInterceptor);
+    }
+}
@@ -0,0 +1,68 @@
+package com.jpacommunity.global.version;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * @VersionedResource 가 붙은 GET 요청의 조건부 처리
+ *
+ * If-None-Match 가 현재 ETag 와 같으면 컨트롤러를 호출하지 않고 304 로 응답한다.
+ * 200 응답의 ETag 는 여기서 붙이지 않고 컨트롤러가 실제로 내려주는 스냅샷의 ETag 를 붙인다.
+ * 그 사이에 스냅샷이 바뀌어도 본문과 ETag 가 어긋나지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ResourceVersionInterceptor implements HandlerInterceptor {
+    private static final String CACHE_CONTROL = CacheControl.noCache().getHeaderValue(); // 매번 재검증
+
+    private final ResourceVersions resourceVersions;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod) || !isGetOrHead(request)) {
+            return true;
+        }
+        VersionedResource versioned = findAnnotation(handlerMethod);
+        if (versioned == null) {
+            return true;
+        }
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        String etag = resourceVersions.current(versioned.value());
+        if (etag == null || !matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            return true;
+        }
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+        return false;
+    }
+
+    // If-None-Match 는 약한 비교 (RFC 9110 13.1.2)
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        ETag current = ETag.create(etag);
+        return ETag.parse(ifNoneMatch).stream()
+                .anyMatch(tag -> tag.isWildcard() || tag.compare(current, false));
+    }
+
+    private static boolean isGetOrHead(HttpServletRequest request) {
+        return HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod());
+    }
+
+    private static VersionedResource findAnnotation(HandlerMethod handlerMethod) {
+        VersionedResource annotation = handlerMethod.getMethodAnnotation(VersionedResource.class);
+        return annotation != null ? annotation
+                : AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), VersionedResource.class);
+    }
+}
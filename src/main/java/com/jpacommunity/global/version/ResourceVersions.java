@@ -0,0 +1,50 @@
+package com.jpacommunity.global.version;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 리소스 이름별 현재 ETag (조건부 GET 용)
+ *
+ * ETag 는 리소스를 가진 쪽이 응답 스냅샷을 만들 때 그 본문 바이트로 계산해 등록한다.
+ * 내용이 같으면 어느 인스턴스에서 언제 만들었든 ETag 가 같고, 내용이 다르면 ETag 도 다르다.
+ * 그래서 재시작이나 여러 인스턴스, 스케줄 갱신, DB 직접 수정 후에도 If-None-Match 가 일치하면 클라이언트의 본문이 현재 본문과 같다.
+ */
+@Slf4j
+@Component
+public class ResourceVersions {
+    public static final String CATEGORIES = "categories";
+
+    private final ConcurrentMap<String, String> etags = new ConcurrentHashMap<>();
+
+    /**
+     * 본문 바이트로 만든 강한 ETag (따옴표 포함)
+     */
+    public static String etagOf(byte[] representation) {
+        return "\"" + DigestUtils.md5DigestAsHex(representation) + "\"";
+    }
+
+    /**
+     * 현재 ETag. 아직 스냅샷이 만들어지지 않았으면 null
+     */
+    public String current(String resource) {
+        return etags.get(resource);
+    }
+
+    /**
+     * 새 스냅샷을 교체한 뒤 호출한다.
+     *
+     * @param resource 리소스 이름
+     * @param etag 새 스냅샷 본문으로 만든 ETag (etagOf)
+     */
+    public void update(String resource, String etag) {
+        String previous = etags.put(resource, etag);
+        if (!etag.equals(previous)) {
+            log.debug("리소스 ETag 변경 - {}: {}", resource, etag);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.jpacommunity.global.version;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 자주 바뀌지 않는 리소스의 조건부 GET (ResourceVersionInterceptor 가 처리)
+ *
+ * If-None-Match 가 리소스의 현재 ETag 와 같으면 컨트롤러를 호출하지 않고 304 로 응답한다.
+ * 리소스를 가진 쪽은 스냅샷을 교체할 때 ResourceVersions.update 로 ETag 를 등록하고,
+ * 컨트롤러는 내려주는 스냅샷의 ETag 를 200 응답에 붙여야 한다. ETag 를 등록하기 전에는 조건부 처리를 하지 않는다.
+ *
+ * 예) @VersionedResource(ResourceVersions.CATEGORIES)
+ */
+@Documented
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface VersionedResource {
+    /**
+     * 리소스 이름. 같은 이름을 쓰는 엔드포인트는 같은 스냅샷을 내려주므로 ETag 를 공유한다.
+     */
+    String value();
+}
@@ -2,6 +2,7 @@ package com.jpacommunity.member.controller;
 
 
 import com.jpacommunity.common.web.response.ResponseDto;
+import com.jpacommunity.global.ratelimit.RateLimited;
 import com.jpacommunity.member.controller.response.MemberResponse;
 import com.jpacommunity.member.domain.MemberType;
 import com.jpacommunity.member.dto.exist.ExistMemberRequest;
@@ -36,6 +37,7 @@ public class MemberController {
      * 이메일로 사용자 존재 여부 확인
      */
     @GetMapping("/exists/email")
+    @RateLimited(key = RateLimited.IP, permits = 30, window = "1m")
     public ResponseEntity<?> existsByEmail(@Valid ExistMemberRequest existMemberRequest, BindingResult bindingResult) {
         log.info("MemberController existsByEmail 메서드 실행 : {}", existMemberRequest.getEmail());
         boolean exists = memberService.existsByEmail(existMemberRequest.getEmail());
@@ -46,6 +48,7 @@ public class MemberController {
      * 닉네임으로 사용자 존재 여부 확인
      */
     @GetMapping("/exists/nickname")
+    @RateLimited(key = RateLimited.IP, permits = 30, window = "1m")
     public ResponseEntity<?> existsByNickname(@Valid ExistMemberRequest existMemberRequest, BindingResult bindingResult) {
         log.info("MemberController existsByNickname 메서드 실행 : {}", existMemberRequest.getNickname());
         boolean exists = memberService.existsByNickname(existMemberRequest.getNickname());
@@ -89,6 +92,7 @@ public class MemberController {
     }
 
     @GetMapping("/type/{email}")
+    @RateLimited(key = RateLimited.IP, permits = 30, window = "1m")
     public ResponseEntity<?> getMemberType(@PathVariable String email) {
         log.info("MemberController getMemberType 메서드 실행: {}", email);
         MemberType memberType = memberService.getMemberTypeByEmail(email);
@@ -16,7 +16,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
-import com.jpacommunity.security.dto.CustomUserDetails;
+import com.jpacommunity.security.dto.MemberPrincipal;
 
 import com.jpacommunity.jwt.util.JwtProvider;
 import java.net.URLEncoder;
@@ -63,7 +63,7 @@ public class MyInfoController {
     }
 
     @GetMapping
-    public ResponseEntity<?> get(@AuthenticationPrincipal CustomUserDetails userDetails) {
+    public ResponseEntity<?> get(@AuthenticationPrincipal MemberPrincipal userDetails) {
         log.info("MyInfoController get 메서드 실행");
         log.info("publicId : {}", userDetails.getPublicId());
 
@@ -75,7 +75,7 @@ public class MyInfoController {
     @PutMapping("/update")
     public ResponseEntity<?> update(@RequestBody @Valid MemberUpdateRequest memberUpdateRequest,
                                     BindingResult bindingResult,
-                                    @AuthenticationPrincipal CustomUserDetails userDetails) {
+                                    @AuthenticationPrincipal MemberPrincipal userDetails) {
         log.info("MyInfoController update 메서드 실행 : {}", memberUpdateRequest.toString());
         String loginUserEmail = memberService.getCurrentLoginUserEmail(userDetails.getPublicId()); // 현재 로그인한 사용자 이메일
         MemberResponse response = memberService.update(loginUserEmail, memberUpdateRequest);
@@ -85,7 +85,7 @@ public class MyInfoController {
     @PutMapping("/change-password")
     public ResponseEntity<?> changePassword(@RequestBody @Valid PasswordChangeRequest passwordChangeRequest,
                                             BindingResult bindingResult,
-                                            @AuthenticationPrincipal CustomUserDetails userDetails) {
+                                            @AuthenticationPrincipal MemberPrincipal userDetails) {
         log.info("MyInfoController changePassword 메서드 실행 : {}", passwordChangeRequest.toString());
         String email = memberService.getCurrentLoginUserEmail(userDetails.getPublicId()); // 현재 로그인한 사용자 이메일
         memberService.changePassword(email, passwordChangeRequest);
@@ -95,7 +95,7 @@ public class MyInfoController {
     @DeleteMapping("/delete")
     public ResponseEntity<?> delete(@RequestBody @Valid MemberDeleteRequest memberDeleteRequest,
                                     BindingResult bindingResult,
-                                    @AuthenticationPrincipal CustomUserDetails userDetails) {
+                                    @AuthenticationPrincipal MemberPrincipal userDetails) {
         log.info("MyInfoController delete 메서드 실행");
         String loginUserEmail = memberService.getCurrentLoginUserEmail(userDetails.getPublicId()); // 현재 로그인한 사용자 이메일
 
@@ -0,0 +1,13 @@
+package com.jpacommunity.member.dto.get;
+
+import com.jpacommunity.member.domain.MemberRole;
+import com.jpacommunity.member.domain.MemberStatus;
+import com.jpacommunity.member.domain.MemberType;
+
+import java.util.UUID;
+
+/**
+ * 로그인 인증에 필요한 회원 컬럼만 담는 조회 전용 프로젝션
+ */
+public record MemberAuthView(String email, String password, MemberRole role, MemberType type, UUID publicId, MemberStatus status) {
+}
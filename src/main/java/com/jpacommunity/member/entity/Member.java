@@ -17,7 +17,9 @@ import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.UUID;
 
 import static com.jpacommunity.member.domain.MemberRole.ADMIN;
@@ -28,7 +30,7 @@ import static com.jpacommunity.member.domain.MemberType.LOCAL;
 @Slf4j
 @Entity
 @Getter
-@Table(name = "p_members")
+@Table(name = "p_members", indexes = @Index(name = "uk_members_email", columnList = "email", unique = true))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Member extends BaseTime {
     @Id
@@ -73,6 +75,10 @@ public class Member extends BaseTime {
     @Column(name = "status", nullable = false)
     private MemberStatus status = PENDING;
 
+    // 이 시각(초 단위) 이전에 발급된 토큰은 폐기된 것으로 본다. 권한/상태 변경 시 기록
+    @Column(name = "tokens_valid_after")
+    private Instant tokensValidAfter;
+
     @Builder
     public Member(Long id, String email, String password, String tel, String name, String nickname, LocalDate birthdate, GenderType gender, MemberRole role, MemberType type, UUID publicId, MemberStatus status) {
         this.id = id;
@@ -115,6 +121,13 @@ public class Member extends BaseTime {
         this.password = passwordEncoder.encode(passwordChangeRequest.getPassword()); // 비밀번호 변경 시 암호화 필요
     }
 
+    /**
+     * 이미 암호화된 비밀번호로 교체 (로그인 시 BCrypt cost 재조정)
+     */
+    public void updateEncodedPassword(String encodedPassword) {
+        this.password = encodedPassword;
+    }
+
     public void updateEmail(String email) {
         this.email = email;
     }
@@ -127,6 +140,13 @@ public class Member extends BaseTime {
         this.role = role;
     }
 
+    /**
+     * 지금까지 발급된 토큰 폐기. JWT iat 와 같은 초 단위로 저장한다.
+     */
+    public void revokeTokensIssuedBefore(Instant at) {
+        this.tokensValidAfter = at.truncatedTo(ChronoUnit.SECONDS);
+    }
+
     public boolean verifyOwnEmail(String email) {
         return email.equals(this.email);
     }
@@ -1,10 +1,14 @@
 package com.jpacommunity.member.repository;
 
 import com.jpacommunity.member.domain.MemberType;
+import com.jpacommunity.member.dto.get.MemberAuthView;
 import com.jpacommunity.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -16,4 +20,17 @@ public interface MemberJpaRepository extends JpaRepository<Member, Long> {
     Optional<Member> findByPublicId(UUID publicId);
     boolean existsByEmail(String email);
     boolean existsByNickname(String nickname);
+
+    /**
+     * 로그인용 조회. 엔티티를 만들지 않고 인증에 필요한 컬럼만 읽는다 (uk_members_email 사용)
+     */
+    @Query("select new com.jpacommunity.member.dto.get.MemberAuthView(m.email, m.password, m.role, m.type, m.publicId, m.status) " +
+            "from Member m where m.email = :email")
+    Optional<MemberAuthView> findAuthByEmail(@Param("email") String email);
+
+    /**
+     * 토큰 재발급 시 폐기 시각만 읽는다. 회원이 없거나 폐기된 적이 없으면 empty
+     */
+    @Query("select m.tokensValidAfter from Member m where m.publicId = :publicId")
+    Optional<Instant> findTokensValidAfterByPublicId(@Param("publicId") UUID publicId);
 }
@@ -1,5 +1,6 @@
 package com.jpacommunity.member.service;
 
+import com.jpacommunity.auth.security.cache.MemberTokenRevocations;
 import com.jpacommunity.common.web.response.ResponseDto;
 import com.jpacommunity.global.exception.JpaCommunityException;
 import com.jpacommunity.jwt.util.JwtProvider;
@@ -22,6 +23,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 
+import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -46,6 +48,8 @@ public class MemberService {
 
     private final MemberRepository memberRepository;
 
+    private final MemberTokenRevocations memberTokenRevocations;
+
     @Transactional
     public MemberResponse create(MemberCreateRequest memberCreateRequest) throws JpaCommunityException {
         // 1. 동일한 유저 이름 존재 검사
@@ -155,6 +159,7 @@ public class MemberService {
 
         Member member = memberOP.get();
         member.updateType(memberRoleUpdateRequest.getRole());
+        revokeTokens(member); // 변경 전 권한이 담긴 토큰 폐기
 
         // 5. dto 응답
         return new MemberResponse(member);
@@ -189,6 +194,7 @@ public class MemberService {
             log.info("사용자가 자신의 상태를 변경 중: {}", targetEmail);
             if (!requester.getStatus().equals(PENDING)) throw new JpaCommunityException(NO_PERMISSION); // PENDING 인 경우에만 본인의 상태 변경 가능하도록 처리
             requester.updateStatus(memberStatusUpdateRequest.getStatus());
+            revokeTokens(requester); // 변경 전 상태가 담긴 토큰 폐기
             return;
         }
 
@@ -196,6 +202,7 @@ public class MemberService {
         if (requester.isAdmin()) {
             log.info("관리자가 상태를 변경 중: {}, 대상자: {}", targetEmail, memberStatusUpdateRequest.getEmail());
             targetMember.updateStatus(memberStatusUpdateRequest.getStatus());
+            revokeTokens(targetMember); // 변경 전 상태가 담긴 토큰 폐기
             return;
         }
 
@@ -244,4 +251,13 @@ public class MemberService {
                 .map(Member::getType)
                 .orElse(null);
     }
+
+    /**
+     * 회원의 기존 토큰 폐기
+     * 폐기 시각은 회원에 저장해 재발급에서 확인하고(모든 인스턴스), 요청마다 확인하는 액세스 토큰용으로 MemberTokenRevocations 에도 커밋 후 기록한다.
+     */
+    private void revokeTokens(Member member) {
+        member.revokeTokensIssuedBefore(Instant.now());
+        memberTokenRevocations.revokeAfterCommit(member.getPublicId());
+    }
 }
@@ -0,0 +1,19 @@
+-- p_category_closures 클로저 테이블 마이그레이션 (MySQL 8)
+-- 기존 카테고리의 (조상, 자손, 거리) 행을 parent_id 재귀로 채운다. 이후에는 CategoryService 가 생성/삭제 시 함께 관리한다.
+CREATE TABLE IF NOT EXISTS p_category_closures (
+    ancestor_id   BIGINT NOT NULL,
+    descendant_id BIGINT NOT NULL,
+    depth         INT    NOT NULL,
+    PRIMARY KEY (ancestor_id, descendant_id),
+    INDEX idx_category_closure_descendant (descendant_id, ancestor_id)
+);
+
+INSERT INTO p_category_closures (ancestor_id, descendant_id, depth)
+WITH RECURSIVE closure (ancestor_id, descendant_id, depth) AS (
+    SELECT id, id, 0 FROM p_categories
+    UNION ALL
+    SELECT closure.ancestor_id, c.id, closure.depth + 1
+    FROM closure
+    JOIN p_categories c ON c.parent_id = closure.descendant_id
+)
+SELECT ancestor_id, descendant_id, depth FROM closure;
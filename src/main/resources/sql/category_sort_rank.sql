@@ -0,0 +1,17 @@
+-- p_categories 간격 정렬 키 마이그레이션 (MySQL 8)
+-- board.category-ordering.mode=rank 에서 사용한다. 형제 안에서의 위치(order_index, id 순) * 65536 으로 채운다.
+-- order_index 는 형제 사이에 중복되거나 비어 있을 수 있으므로 그대로 곱하면 유니크 인덱스 생성이 실패하거나 키가 없는 행이 남는다.
+-- MySQL 유니크 인덱스는 NULL 을 서로 다른 값으로 보므로, 최상위 카테고리도 제약에 걸리도록 parent_id 대신 생성 컬럼을 쓴다.
+ALTER TABLE p_categories ADD COLUMN sort_rank BIGINT NULL;
+ALTER TABLE p_categories ADD COLUMN rank_parent_id BIGINT GENERATED ALWAYS AS (COALESCE(parent_id, 0)) STORED;
+
+-- 순서는 CategoryTree 와 같다 (order_index 가 없는 행은 뒤에, 같으면 id 순)
+UPDATE p_categories c
+JOIN (
+    SELECT id,
+           ROW_NUMBER() OVER (PARTITION BY COALESCE(parent_id, 0) ORDER BY order_index IS NULL, order_index, id) AS position
+    FROM p_categories
+) ranked ON ranked.id = c.id
+SET c.sort_rank = ranked.position * 65536;
+
+CREATE UNIQUE INDEX uk_category_parent_sort_rank ON p_categories (rank_parent_id, sort_rank);
@@ -0,0 +1,13 @@
+-- pooled-ids 프로필용 ID 테이블 마이그레이션 (MySQL)
+-- pooled-lo 는 next_val 을 다음 블록의 시작 ID 로 사용하므로 테이블별 현재 최대 ID + 1 로 시드한다.
+-- 애플리케이션을 내린 상태에서 실행해야 시드 이후 AUTO_INCREMENT 로 들어오는 행과 겹치지 않는다.
+CREATE TABLE IF NOT EXISTS p_id_sequences (
+    sequence_name VARCHAR(255) NOT NULL PRIMARY KEY,
+    next_val      BIGINT       NOT NULL
+);
+
+INSERT INTO p_id_sequences (sequence_name, next_val) SELECT 'p_posts', COALESCE(MAX(id), 0) + 1 FROM p_posts;
+INSERT INTO p_id_sequences (sequence_name, next_val) SELECT 'p_attachments', COALESCE(MAX(id), 0) + 1 FROM p_attachments;
+INSERT INTO p_id_sequences (sequence_name, next_val) SELECT 'p_categories', COALESCE(MAX(id), 0) + 1 FROM p_categories;
+INSERT INTO p_id_sequences (sequence_name, next_val) SELECT 'p_members', COALESCE(MAX(id), 0) + 1 FROM p_members;
+INSERT INTO p_id_sequences (sequence_name, next_val) SELECT 'p_refreshes', COALESCE(MAX(id), 0) + 1 FROM p_refreshes;
@@ -0,0 +1,6 @@
+-- p_members 이메일 유니크 인덱스 마이그레이션 (MySQL)
+-- 1. 중복 이메일 확인. 결과가 있으면 정리 후 진행한다.
+SELECT email, COUNT(*) FROM p_members GROUP BY email HAVING COUNT(*) > 1;
+
+-- 2. 로그인 조회(findAuthByEmail)가 인덱스 한 번으로 끝나도록 유니크 인덱스 추가
+CREATE UNIQUE INDEX uk_members_email ON p_members (email);
@@ -0,0 +1,3 @@
+-- p_members 토큰 폐기 시각 컬럼 마이그레이션 (MySQL)
+-- 권한/상태 변경 시각을 저장해 이전에 발급된 리프레시 토큰의 재발급을 모든 인스턴스에서 거절한다. NULL 이면 폐기된 적 없음
+ALTER TABLE p_members ADD COLUMN tokens_valid_after DATETIME(6) NULL;
@@ -0,0 +1,4 @@
+-- p_posts 목록 키셋 조회 인덱스 마이그레이션 (MySQL)
+-- WHERE category_id = ? AND id < ? ORDER BY id DESC 를 인덱스 역순 스캔으로 처리한다.
+-- 하위 카테고리를 포함한 조회는 하위 카테고리마다 이 인덱스를 역순으로 페이지 크기만큼 읽어 합친다. (PostQueryRepository.findSlice 참고)
+CREATE INDEX idx_post_category_id ON p_posts (category_id, id);
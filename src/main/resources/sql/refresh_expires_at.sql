@@ -0,0 +1,14 @@
+-- p_refreshes 만료 시각 컬럼 마이그레이션 (MySQL)
+-- 1. TIMESTAMP 컬럼과 인덱스 추가
+ALTER TABLE p_refreshes ADD COLUMN expires_at TIMESTAMP NULL;
+CREATE INDEX idx_refresh_expires_at ON p_refreshes (expires_at);
+
+-- 2. 기존 Date.toString() 문자열(예: "Fri Nov 01 12:00:00 KST 2024")을 변환. 시간대 표기는 서버 시간대로 간주한다.
+UPDATE p_refreshes
+SET expires_at = STR_TO_DATE(CONCAT(SUBSTRING(expiration, 5, 15), ' ', SUBSTRING_INDEX(expiration, ' ', -1)), '%b %d %H:%i:%s %Y')
+WHERE expires_at IS NULL;
+
+-- 3. 변환할 수 없는 행은 만료된 것으로 처리하고 기존 컬럼 제거
+UPDATE p_refreshes SET expires_at = NOW() WHERE expires_at IS NULL;
+ALTER TABLE p_refreshes MODIFY expires_at TIMESTAMP NOT NULL;
+ALTER TABLE p_refreshes DROP COLUMN expiration;
@@ -0,0 +1,3 @@
+-- p_refreshes 토큰 패밀리 컬럼 마이그레이션 (MySQL)
+-- 기존 행은 NULL 로 남으며, 다음 재발급 시 새 패밀리 ID 가 부여된다.
+ALTER TABLE p_refreshes ADD COLUMN family_id BINARY(16) NULL;
@@ -0,0 +1,5 @@
+-- p_refreshes 직전 토큰 해시 컬럼 마이그레이션 (MySQL)
+-- 교체 직후 같은 토큰으로 온 동시 재발급 요청을 재사용과 구분하는 데 사용한다. 기존 행은 NULL 로 남는다.
+ALTER TABLE p_refreshes ADD COLUMN previous_token_hash CHAR(64) NULL;
+ALTER TABLE p_refreshes ADD COLUMN rotated_at TIMESTAMP(6) NULL;
+CREATE INDEX idx_refresh_public_id_previous_token_hash ON p_refreshes (public_id, previous_token_hash);
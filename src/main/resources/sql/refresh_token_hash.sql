@@ -0,0 +1,7 @@
+-- p_refreshes 토큰 해시 컬럼 마이그레이션 (MySQL)
+-- 1. 해시 컬럼과 (public_id, token_hash) 복합 인덱스 추가
+ALTER TABLE p_refreshes ADD COLUMN token_hash CHAR(64) NULL;
+CREATE INDEX idx_refresh_public_id_token_hash ON p_refreshes (public_id, token_hash);
+
+-- 2. 기존 행 백필 (TokenHashUtil.sha256Hex 와 같은 소문자 16진수 SHA-256)
+UPDATE p_refreshes SET token_hash = SHA2(CONVERT(refresh USING utf8mb4), 256) WHERE token_hash IS NULL;
@@ -0,0 +1,81 @@
+package com.jpacommunity.auth.security.crypto;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdaptiveBCryptPasswordEncoderTest {
+
+    @Test
+    public void 저장된_cost_가_현재_cost_보다_낮으면_재암호화_대상이다() throws Exception {
+        AdaptiveBCryptPasswordEncoder encoder = new AdaptiveBCryptPasswordEncoder(11, 1, 4, Duration.ofSeconds(5), new SimpleMeterRegistry());
+
+        try {
+            String encoded = encoder.encode("12345");
+
+            assertThat(encoder.matches("12345", encoded)).isTrue();
+            assertThat(encoder.upgradeEncoding(encoded)).isFalse();
+            assertThat(encoder.upgradeEncoding(BCrypt.hashpw("12345", BCrypt.gensalt(10)))).isTrue();
+            assertThat(encoder.upgradeEncoding(BCrypt.hashpw("12345", BCrypt.gensalt(12)))).isFalse();
+            assertThat(encoder.upgradeEncoding("plain")).isFalse();
+        } finally {
+            encoder.destroy();
+        }
+    }
+
+    @Test
+    public void 대기열이_가득_차면_기다리지_않고_예외를_던진다() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AdaptiveBCryptPasswordEncoder encoder = new AdaptiveBCryptPasswordEncoder(4, 1, 1, Duration.ofSeconds(30), meterRegistry);
+        ExecutorService callerPool = Executors.newFixedThreadPool(2);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try {
+            // 스레드 1개를 점유하고 대기열 1칸을 채운다
+            Future<Boolean> blocking = callerPool.submit(() -> encoder.execute(() -> {
+                running.countDown();
+                return release.await(30, TimeUnit.SECONDS);
+            }));
+            assertThat(running.await(10, TimeUnit.SECONDS)).isTrue();
+            Future<Boolean> queued = callerPool.submit(() -> encoder.execute(() -> true));
+            awaitQueued(meterRegistry, 1);
+
+            long start = System.nanoTime();
+            assertThatThrownBy(() -> encoder.matches("12345", BCrypt.hashpw("12345", BCrypt.gensalt(4))))
+                    .isInstanceOf(PasswordHashingBusyException.class);
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+
+            release.countDown();
+            assertThat(blocking.get(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(queued.get(10, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            release.countDown();
+            callerPool.shutdownNow();
+            encoder.destroy();
+        }
+    }
+
+    @Test
+    public void 목표_시간에_맞춰_cost_를_정한다() {
+        assertThat(AdaptiveBCryptPasswordEncoder.calibrate(Duration.ofMillis(1), 4, 14)).isEqualTo(4);
+        assertThat(AdaptiveBCryptPasswordEncoder.calibrate(Duration.ofHours(1), 4, 6)).isEqualTo(6);
+    }
+
+    // executor.queued 게이지로 대기열에 들어간 것을 확인
+    private static void awaitQueued(SimpleMeterRegistry meterRegistry, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (meterRegistry.get("executor.queued").tag("name", "passwordHashing").gauge().value() < expected) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("대기열에 작업이 들어가지 않았습니다");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
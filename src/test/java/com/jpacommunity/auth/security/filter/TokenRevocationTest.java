@@ -0,0 +1,161 @@
+package com.jpacommunity.auth.security.filter;
+
+import com.jpacommunity.global.exception.JpaCommunityException;
+import com.jpacommunity.jwt.repository.RefreshJpaRepository;
+import com.jpacommunity.jwt.service.ReIssueService;
+import com.jpacommunity.jwt.store.RefreshTokenStore;
+import com.jpacommunity.jwt.util.JwtProvider;
+import com.jpacommunity.member.domain.MemberRole;
+import com.jpacommunity.member.dto.update.MemberStatusUpdateRequest;
+import com.jpacommunity.member.entity.Member;
+import com.jpacommunity.member.repository.MemberJpaRepository;
+import com.jpacommunity.member.service.MemberService;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlGroup;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static com.jpacommunity.global.exception.ErrorCode.INVALID_REFRESH_TOKEN;
+import static com.jpacommunity.jwt.util.JwtProvider.REFRESH_TOKEN_KEY;
+import static com.jpacommunity.jwt.util.JwtProvider.TOKEN_CATEGORY_ACCESS;
+import static com.jpacommunity.jwt.util.JwtProvider.TOKEN_PREFIX;
+import static com.jpacommunity.member.domain.GenderType.M;
+import static com.jpacommunity.member.domain.MemberRole.ADMIN;
+import static com.jpacommunity.member.domain.MemberRole.USER;
+import static com.jpacommunity.member.domain.MemberStatus.ACTIVE;
+import static com.jpacommunity.member.domain.MemberStatus.INACTIVE;
+import static com.jpacommunity.member.domain.MemberType.LOCAL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 권한/상태 변경 후 기존 토큰 거절 (검증 캐시 사용 시에도, 재발급 포함)
+ * 폐기는 커밋 후에 기록되므로 테스트 트랜잭션으로 감싸지 않는다.
+ */
+@AutoConfigureMockMvc
+@SpringBootTest(properties = "jwt.verified-token-cache.enabled=true")
+@SqlGroup({
+        @Sql(value = "/sql/delete-all-data.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+})
+class TokenRevocationTest {
+    private static final String ADMIN_EMAIL = "admin1506@naver.com";
+    private static final String TARGET_EMAIL = "net1506@naver.com";
+
+    @Autowired
+    MockMvc mockMvc;
+    @Autowired
+    JwtProvider jwtProvider;
+    @Autowired
+    MemberService memberService;
+    @Autowired
+    MemberJpaRepository memberJpaRepository;
+    @Autowired
+    PasswordEncoder passwordEncoder;
+    @Autowired
+    ReIssueService reIssueService;
+    @Autowired
+    RefreshTokenStore refreshTokenStore;
+    @Autowired
+    RefreshJpaRepository refreshJpaRepository;
+
+    private final UUID familyId = UUID.randomUUID();
+    private Member target;
+
+    @BeforeEach
+    public void init() {
+        memberJpaRepository.save(member(ADMIN_EMAIL, "관리자", ADMIN));
+        target = memberJpaRepository.save(member(TARGET_EMAIL, "play_gogo종욱", USER));
+    }
+
+    @AfterEach
+    public void cleanup() {
+        refreshJpaRepository.deleteByPublicIdAndFamilyId(target.getPublicId(), familyId);
+    }
+
+    @Test
+    public void 정지된_회원의_기존_토큰은_캐시에_있어도_거절된다() throws Exception {
+        String token = jwtProvider.generateToken(TOKEN_CATEGORY_ACCESS, Duration.ofMinutes(10), target.getPublicId(), USER.name(), ACTIVE.name());
+
+        // 첫 요청으로 검증 캐시에 들어간다
+        mockMvc.perform(get("/api/me").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        memberService.updateStatus(ADMIN_EMAIL, MemberStatusUpdateRequest.builder()
+                .email(TARGET_EMAIL)
+                .status(INACTIVE)
+                .build());
+
+        mockMvc.perform(get("/api/me").header("Authorization", "Bearer " + token))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    public void 다른_회원의_토큰은_영향이_없다() throws Exception {
+        Member admin = memberJpaRepository.findByEmail(ADMIN_EMAIL).orElseThrow();
+        String token = jwtProvider.generateToken(TOKEN_CATEGORY_ACCESS, Duration.ofMinutes(10), admin.getPublicId(), ADMIN.name(), ACTIVE.name());
+
+        memberService.updateStatus(ADMIN_EMAIL, MemberStatusUpdateRequest.builder()
+                .email(TARGET_EMAIL)
+                .status(INACTIVE)
+                .build());
+
+        mockMvc.perform(get("/api/me").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void 상태_변경_전에_발급된_리프레시_토큰은_재발급되지_않는다() throws Exception {
+        String refresh = jwtProvider.generateRefreshToken(Duration.ofHours(1), target.getPublicId(), USER.name(), ACTIVE.name(), familyId);
+        refreshTokenStore.save(target.getPublicId(), familyId, refresh, Instant.now().plus(Duration.ofHours(1)));
+
+        memberService.updateStatus(ADMIN_EMAIL, MemberStatusUpdateRequest.builder()
+                .email(TARGET_EMAIL)
+                .status(INACTIVE)
+                .build());
+
+        // 재발급은 메모리 값이 아니라 회원에 저장된 폐기 시각으로 확인한다 (다른 인스턴스에서도 같은 결과)
+        assertThat(memberJpaRepository.findTokensValidAfterByPublicId(target.getPublicId())).isPresent();
+        JpaCommunityException exception = assertThrows(JpaCommunityException.class,
+                () -> reIssueService.reissueTokens(request(refresh)));
+        assertThat(exception.getErrorCode()).isEqualTo(INVALID_REFRESH_TOKEN);
+    }
+
+    private MockHttpServletRequest request(String refresh) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/reissue");
+        request.setCookies(new Cookie(REFRESH_TOKEN_KEY, URLEncoder.encode(TOKEN_PREFIX + refresh, StandardCharsets.UTF_8)));
+        return request;
+    }
+
+    private Member member(String email, String nickname, MemberRole role) {
+        return Member.builder()
+                .email(email)
+                .tel("01077776666")
+                .name("jongwook")
+                .password(passwordEncoder.encode("12345"))
+                .nickname(nickname)
+                .gender(M)
+                .birthdate(LocalDate.of(2011, 1, 13))
+                .role(role)
+                .type(LOCAL)
+                .status(ACTIVE)
+                .publicId(UUID.randomUUID())
+                .build();
+    }
+}
@@ -0,0 +1,137 @@
+package com.jpacommunity.auth.service;
+
+import com.jpacommunity.global.exception.JpaCommunityException;
+import com.jpacommunity.jwt.domain.Tokens;
+import com.jpacommunity.jwt.repository.RefreshJpaRepository;
+import com.jpacommunity.jwt.service.ReIssueService;
+import com.jpacommunity.jwt.store.RefreshTokenStore;
+import com.jpacommunity.jwt.util.JwtProvider;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+import static com.jpacommunity.global.exception.ErrorCode.RESOURCE_CONFLICT;
+import static com.jpacommunity.jwt.util.JwtProvider.REFRESH_TOKEN_KEY;
+import static com.jpacommunity.jwt.util.JwtProvider.TOKEN_PREFIX;
+import static com.jpacommunity.member.domain.MemberRole.USER;
+import static com.jpacommunity.member.domain.MemberStatus.ACTIVE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 트랜잭션 없이 실행하여 각 스레드의 재발급이 실제로 커밋되도록 한다.
+ */
+@SpringBootTest
+class ReIssueServiceConcurrencyTest {
+    @Autowired
+    ReIssueService reIssueService;
+    @Autowired
+    JwtProvider jwtProvider;
+    @Autowired
+    RefreshTokenStore refreshTokenStore;
+    @Autowired
+    RefreshJpaRepository refreshJpaRepository;
+
+    private final UUID publicId = UUID.randomUUID();
+    private final UUID familyId = UUID.randomUUID();
+
+    @AfterEach
+    public void cleanup() {
+        refreshJpaRepository.deleteByPublicIdAndFamilyId(publicId, familyId);
+    }
+
+    @Test
+    @DisplayName("같은 리프레시 토큰으로 동시에 재발급하면 한 요청만 성공하고, 진 요청은 패밀리를 폐기하지 않는다.")
+    public void concurrent_reissue_only_one_succeeds() throws Exception {
+        // given
+        int threadCount = 16;
+        String refresh = saveRefreshToken();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch ready = new CountDownLatch(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Object>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            futures.add(executorService.submit(() -> {
+                ready.countDown();
+                start.await();
+                try {
+                    return reIssueService.reissueTokens(request(refresh));
+                } catch (JpaCommunityException e) {
+                    return e.getErrorCode();
+                }
+            }));
+        }
+        ready.await();
+        start.countDown();
+
+        List<Tokens> succeeded = new ArrayList<>();
+        List<Object> failed = new ArrayList<>();
+        for (Future<Object> future : futures) {
+            Object result = future.get(30, TimeUnit.SECONDS);
+            if (result instanceof Tokens tokens) {
+                succeeded.add(tokens);
+            } else {
+                failed.add(result);
+            }
+        }
+        executorService.shutdown();
+
+        // then
+        assertThat(succeeded).hasSize(1);
+        assertThat(failed).hasSize(threadCount - 1).allMatch(errorCode -> errorCode == RESOURCE_CONFLICT);
+        assertThat(refreshTokenStore.exists(publicId, refresh)).isFalse();
+
+        // 이긴 요청의 새 리프레시 토큰으로 다시 재발급할 수 있다
+        String winnerRefresh = succeeded.get(0).getRefreshToken();
+        assertThat(refreshTokenStore.exists(publicId, winnerRefresh)).isTrue();
+        Tokens next = reIssueService.reissueTokens(request(winnerRefresh));
+        assertThat(refreshTokenStore.exists(publicId, next.getRefreshToken())).isTrue();
+    }
+
+    @Test
+    @DisplayName("이미 교체된 리프레시 토큰을 다시 사용하면 같은 패밀리의 토큰이 모두 폐기된다.")
+    public void reuse_of_rotated_token_revokes_family() throws Exception {
+        // given
+        // 직전 교체가 아닌 토큰이어야 grace 안에서도 재사용으로 판별된다
+        String refresh = saveRefreshToken();
+        Tokens first = reIssueService.reissueTokens(request(refresh));
+        Tokens second = reIssueService.reissueTokens(request(first.getRefreshToken()));
+
+        // when
+        assertThatThrownBy(() -> reIssueService.reissueTokens(request(refresh)))
+                .isInstanceOf(JpaCommunityException.class);
+
+        // then
+        assertThat(refreshTokenStore.exists(publicId, second.getRefreshToken())).isFalse();
+        assertThatThrownBy(() -> reIssueService.reissueTokens(request(second.getRefreshToken())))
+                .isInstanceOf(JpaCommunityException.class);
+    }
+
+    private String saveRefreshToken() {
+        String refresh = jwtProvider.generateRefreshToken(Duration.ofHours(1), publicId, USER.name(), ACTIVE.name(), familyId);
+        refreshTokenStore.save(publicId, familyId, refresh, Instant.now().plus(Duration.ofHours(1)));
+        return refresh;
+    }
+
+    private MockHttpServletRequest request(String refresh) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/reissue");
+        request.setCookies(new Cookie(REFRESH_TOKEN_KEY, URLEncoder.encode(TOKEN_PREFIX + refresh, StandardCharsets.UTF_8)));
+        return request;
+    }
+}
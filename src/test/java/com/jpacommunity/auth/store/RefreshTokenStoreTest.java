@@ -0,0 +1,162 @@
+package com.jpacommunity.auth.store;
+
+import com.jpacommunity.jwt.store.EmbeddedKeyValueClient;
+import com.jpacommunity.jwt.store.InMemoryRefreshTokenStore;
+import com.jpacommunity.jwt.store.KeyValueRefreshTokenStore;
+import com.jpacommunity.jwt.store.RefreshTokenStore;
+import com.jpacommunity.jwt.store.RotationResult;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RefreshTokenStoreTest {
+    private final UUID publicId = UUID.randomUUID();
+    private final UUID familyId = UUID.randomUUID();
+    private final String refresh = "refresh-token";
+    private static final Duration GRACE = Duration.ofSeconds(10);
+
+    @Test
+    public void 인메모리_저장_조회_삭제() throws Exception {
+        verifySaveExistsDelete(new InMemoryRefreshTokenStore(4, 8, 10, GRACE));
+    }
+
+    @Test
+    public void 키값_저장_조회_삭제() throws Exception {
+        verifySaveExistsDelete(new KeyValueRefreshTokenStore(new EmbeddedKeyValueClient(), GRACE));
+    }
+
+    @Test
+    public void 인메모리_만료된_토큰_제거() throws Exception {
+        InMemoryRefreshTokenStore store = new InMemoryRefreshTokenStore(4, 8, 10, GRACE);
+        store.save(publicId, familyId, refresh, Instant.now().plusMillis(20));
+        store.save(publicId, UUID.randomUUID(), "other-token", Instant.now().plus(Duration.ofHours(1)));
+
+        Thread.sleep(50);
+        store.expire();
+
+        assertThat(store.exists(publicId, refresh)).isFalse();
+        assertThat(store.exists(publicId, "other-token")).isTrue();
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    // grace 0 은 grace 가 지난 뒤의 재사용과 같다
+    @Test
+    public void 인메모리_교체된_토큰_재사용시_패밀리_폐기() throws Exception {
+        verifyReuseRevokesFamily(new InMemoryRefreshTokenStore(4, 8, 10, Duration.ZERO));
+    }
+
+    @Test
+    public void 키값_교체된_토큰_재사용시_패밀리_폐기() throws Exception {
+        verifyReuseRevokesFamily(new KeyValueRefreshTokenStore(new EmbeddedKeyValueClient(), Duration.ZERO));
+    }
+
+    @Test
+    public void 인메모리_grace_안의_재요청은_패밀리_유지() throws Exception {
+        verifyRetryWithinGraceKeepsFamily(new InMemoryRefreshTokenStore(4, 8, 10, GRACE));
+    }
+
+    @Test
+    public void 키값_grace_안의_재요청은_패밀리_유지() throws Exception {
+        verifyRetryWithinGraceKeepsFamily(new KeyValueRefreshTokenStore(new EmbeddedKeyValueClient(), GRACE));
+    }
+
+    @Test
+    public void 인메모리_동시_교체는_한번만_성공() throws Exception {
+        verifyConcurrentRotation(new InMemoryRefreshTokenStore(4, 8, 10, GRACE));
+    }
+
+    @Test
+    public void 키값_동시_교체는_한번만_성공() throws Exception {
+        verifyConcurrentRotation(new KeyValueRefreshTokenStore(new EmbeddedKeyValueClient(), GRACE));
+    }
+
+    private void verifySaveExistsDelete(RefreshTokenStore store) {
+        store.save(publicId, familyId, refresh, Instant.now().plus(Duration.ofHours(1)));
+
+        assertThat(store.exists(publicId, refresh)).isTrue();
+        assertThat(store.exists(UUID.randomUUID(), refresh)).isFalse();
+
+        assertThat(store.delete(publicId, refresh)).isTrue();
+        assertThat(store.exists(publicId, refresh)).isFalse();
+        assertThat(store.delete(publicId, refresh)).isFalse();
+    }
+
+    private void verifyReuseRevokesFamily(RefreshTokenStore store) {
+        Instant expiresAt = Instant.now().plus(Duration.ofHours(1));
+        store.save(publicId, familyId, refresh, expiresAt);
+
+        assertThat(store.rotate(publicId, familyId, refresh, "second-token", expiresAt)).isEqualTo(RotationResult.ROTATED);
+        assertThat(store.exists(publicId, "second-token")).isTrue();
+
+        // 이미 교체된 토큰 재사용
+        assertThat(store.rotate(publicId, familyId, refresh, "third-token", expiresAt)).isEqualTo(RotationResult.REUSED);
+        assertThat(store.exists(publicId, "second-token")).isFalse();
+        assertThat(store.exists(publicId, "third-token")).isFalse();
+
+        assertThat(store.rotate(publicId, UUID.randomUUID(), "unknown-token", "fourth-token", expiresAt)).isEqualTo(RotationResult.NOT_FOUND);
+    }
+
+    private void verifyRetryWithinGraceKeepsFamily(RefreshTokenStore store) {
+        Instant expiresAt = Instant.now().plus(Duration.ofHours(1));
+        store.save(publicId, familyId, refresh, expiresAt);
+
+        assertThat(store.rotate(publicId, familyId, refresh, "second-token", expiresAt)).isEqualTo(RotationResult.ROTATED);
+
+        // 동시 요청에서 진 요청
+        assertThat(store.rotate(publicId, familyId, refresh, "third-token", expiresAt)).isEqualTo(RotationResult.RACED);
+        assertThat(store.exists(publicId, "second-token")).isTrue();
+        assertThat(store.exists(publicId, "third-token")).isFalse();
+
+        // 이긴 요청의 새 토큰은 계속 교체할 수 있다
+        assertThat(store.rotate(publicId, familyId, "second-token", "fourth-token", expiresAt)).isEqualTo(RotationResult.ROTATED);
+    }
+
+    private void verifyConcurrentRotation(RefreshTokenStore store) throws Exception {
+        int threadCount = 32;
+        Instant expiresAt = Instant.now().plus(Duration.ofHours(1));
+        store.save(publicId, familyId, refresh, expiresAt);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch ready = new CountDownLatch(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<RotationResult>> futures = new ArrayList<>();
+
+        for (int i = 0; i < threadCount; i++) {
+            String newRefresh = "new-token-" + i;
+            futures.add(executorService.submit(() -> {
+                ready.countDown();
+                start.await();
+                return store.rotate(publicId, familyId, refresh, newRefresh, expiresAt);
+            }));
+        }
+        ready.await();
+        start.countDown();
+
+        int rotated = 0;
+        int raced = 0;
+        for (Future<RotationResult> future : futures) {
+            RotationResult result = future.get(10, TimeUnit.SECONDS);
+            if (result == RotationResult.ROTATED) {
+                rotated++;
+            } else if (result == RotationResult.RACED) {
+                raced++;
+            }
+        }
+        executorService.shutdown();
+
+        assertThat(rotated).isEqualTo(1);
+        assertThat(raced).isEqualTo(threadCount - 1);
+        assertThat(store.exists(publicId, refresh)).isFalse();
+        // 진 요청이 패밀리를 폐기하지 않았으므로 이긴 요청의 새 토큰이 남아 있다
+        long remaining = IntStream.range(0, threadCount).filter(i -> store.exists(publicId, "new-token-" + i)).count();
+        assertThat(remaining).isEqualTo(1);
+    }
+}
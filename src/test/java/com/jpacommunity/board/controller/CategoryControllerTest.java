@@ -0,0 +1,74 @@
+package com.jpacommunity.board.controller;
+
+import com.jpacommunity.board.core.entity.Category;
+import com.jpacommunity.jwt.util.JwtProvider;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlGroup;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static com.jpacommunity.jwt.util.JwtProvider.TOKEN_CATEGORY_ACCESS;
+import static com.jpacommunity.member.domain.MemberRole.ADMIN;
+import static com.jpacommunity.member.domain.MemberRole.USER;
+import static com.jpacommunity.member.domain.MemberStatus.ACTIVE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 카테고리 순번 이동(PATCH)은 관리자만 할 수 있다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@SqlGroup({
+        @Sql(value = "/sql/delete-all-data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD),
+        @Sql(value = "/sql/category-insert-date.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD),
+        @Sql(value = "/sql/delete-all-data.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD),
+})
+class CategoryControllerTest {
+    private static final String MOVE_BODY = "{\"orderIndex\": 3}";
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    JwtProvider jwtProvider;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Test
+    public void 일반_회원은_카테고리_순번을_이동할_수_없다() throws Exception {
+        String token = jwtProvider.generateToken(TOKEN_CATEGORY_ACCESS, Duration.ofMinutes(10), UUID.randomUUID(), USER.name(), ACTIVE.name());
+
+        mockMvc.perform(patch("/api/categories/{id}/order-index", 1L)
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(MOVE_BODY))
+                .andExpect(status().isForbidden());
+
+        entityManager.clear();
+        assertThat(entityManager.find(Category.class, 1L).getOrderIndex()).isEqualTo(1);
+    }
+
+    @Test
+    public void 관리자는_카테고리_순번을_이동할_수_있다() throws Exception {
+        String token = jwtProvider.generateToken(TOKEN_CATEGORY_ACCESS, Duration.ofMinutes(10), UUID.randomUUID(), ADMIN.name(), ACTIVE.name());
+
+        mockMvc.perform(patch("/api/categories/{id}/order-index", 1L)
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(MOVE_BODY))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,216 @@
+package com.jpacommunity.board.controller;
+
+import com.jpacommunity.board.api.controller.response.PostBulkDeleteResponse;
+import com.jpacommunity.board.api.dto.PostCreateRequest;
+import com.jpacommunity.board.core.entity.Category;
+import com.jpacommunity.board.core.entity.Post;
+import com.jpacommunity.board.core.service.PostService;
+import com.jpacommunity.member.domain.GenderType;
+import com.jpacommunity.member.entity.Member;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlGroup;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static com.jpacommunity.member.domain.MemberRole.USER;
+import static com.jpacommunity.member.domain.MemberStatus.ACTIVE;
+import static com.jpacommunity.member.domain.MemberType.LOCAL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 엔드포인트별 SQL 실행 횟수 확인 (Hibernate Statistics)
+ * 목록은 프로젝션 1회, 카테고리 조건이 있으면 하위 카테고리별 키셋 ID 조회 1회가 더해진다. 상세는 fetch join 1회(이후 캐시), 삭제는 작성자/카테고리를 읽지 않아야 한다.
+ * 일괄 삭제는 청크 하나당 4회(존재 ID, 첨부파일 경로, 첨부파일 삭제, 게시글 삭제)만 실행한다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@Transactional
+@SqlGroup({
+        @Sql(value = "/sql/delete-all-data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD),
+        @Sql(value = "/sql/category-insert-date.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD),
+        @Sql(value = "/sql/delete-all-data.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD),
+})
+class PostQueryCountTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    PostService postService;
+
+    private Statistics statistics;
+    private final List<Long> postIds = new ArrayList<>();
+
+    @BeforeEach
+    public void init() {
+        Member member = entityManager.merge(Member.builder()
+                .email("net1506@naver.com")
+                .tel("01077776666")
+                .name("jongwook")
+                .password("12345")
+                .nickname("일반 계정 종욱")
+                .gender(GenderType.M)
+                .birthdate(LocalDate.of(2011, 1, 13))
+                .role(USER)
+                .type(LOCAL)
+                .status(ACTIVE)
+                .publicId(UUID.fromString("98b58825-23d9-48aa-bc37-11d87441aca3"))
+                .build());
+        Category category = entityManager.find(Category.class, 1L);
+
+        for (int i = 0; i < 60; i++) {
+            Post post = new Post(new PostCreateRequest("게시글 " + i, "게시글 내용 " + i, category.getId()), category, member);
+            entityManager.persist(post);
+            postIds.add(post.getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    public void 목록_조회는_쿼리_1회() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/posts")
+                        .param("size", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.posts.length()").value(50))
+                .andExpect(jsonPath("$.data.hasNext").value(true));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    public void 카테고리_목록_조회는_키셋_ID_조회와_프로젝션_2회() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/posts")
+                        .param("categoryId", "1")
+                        .param("size", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.posts.length()").value(50))
+                .andExpect(jsonPath("$.data.hasNext").value(true));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    public void 하위_카테고리_게시글이_섞여도_다음_페이지는_이어서_읽는다() throws Exception {
+        // 축구(1) 게시글 60건 뒤에 자유(17) 게시글 10건
+        Category free = entityManager.find(Category.class, 17L);
+        Member member = entityManager.find(Post.class, postIds.get(0)).getMember();
+        List<Long> freePostIds = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Post post = new Post(new PostCreateRequest("하위 카테고리 게시글 " + i, "내용", free.getId()), free, member);
+            entityManager.persist(post);
+            freePostIds.add(post.getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // 첫 페이지: 자유 10건 + 축구 40건
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/posts")
+                        .param("categoryId", "1")
+                        .param("size", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.posts[0].id").value(freePostIds.get(9)))
+                .andExpect(jsonPath("$.data.posts[9].id").value(freePostIds.get(0)))
+                .andExpect(jsonPath("$.data.posts[10].id").value(postIds.get(59)))
+                .andExpect(jsonPath("$.data.nextCursor").value(postIds.get(20)));
+
+        // 두 번째 페이지: 남은 축구 20건
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/posts")
+                        .param("categoryId", "1")
+                        .param("after", String.valueOf(postIds.get(20)))
+                        .param("size", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.posts.length()").value(20))
+                .andExpect(jsonPath("$.data.posts[0].id").value(postIds.get(19)))
+                .andExpect(jsonPath("$.data.hasNext").value(false));
+    }
+
+    @Test
+    public void 상위_카테고리_목록은_하위_카테고리_게시글을_포함한다() throws Exception {
+        // 축구(1) > 커뮤니티(5) > 자유(17)
+        Category free = entityManager.find(Category.class, 17L);
+        Member member = entityManager.find(Post.class, postIds.get(0)).getMember();
+        Post post = new Post(new PostCreateRequest("하위 카테고리 게시글", "내용", free.getId()), free, member);
+        entityManager.persist(post);
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/posts")
+                        .param("categoryId", "1")
+                        .param("size", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.posts[0].id").value(post.getId()))
+                .andExpect(jsonPath("$.data.posts[0].categoryName").value("자유"));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void 상세_조회는_fetch_join_1회_이후에는_캐시에서_읽는다() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/posts/" + postIds.get(0)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.categoryName").value("축구"))
+                .andExpect(jsonPath("$.data.authorNickname").value("일반 계정 종욱"))
+                .andExpect(jsonPath("$.data.attachments.length()").value(0));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        statistics.clear();
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/posts/" + postIds.get(0)))
+                .andExpect(status().isOk());
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    public void 삭제는_작성자와_카테고리를_읽지_않는다() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.delete("/api/posts/" + postIds.get(0)))
+                .andExpect(status().isOk());
+
+        assertThat(statistics.getEntityStatistics(Member.class.getName()).getLoadCount()).isZero();
+        assertThat(statistics.getEntityStatistics(Category.class.getName()).getLoadCount()).isZero();
+    }
+
+    @Test
+    public void 일괄_삭제는_청크당_쿼리_4회이고_없는_ID를_알려준다() {
+        List<Long> ids = new ArrayList<>(postIds.subList(0, 50));
+        ids.add(-1L);
+
+        PostBulkDeleteResponse response = postService.deleteAllByIdIn(ids);
+
+        assertThat(response.getDeletedIds()).containsExactlyElementsOf(postIds.subList(0, 50));
+        assertThat(response.getMissingIds()).containsExactly(-1L);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(entityManager.find(Post.class, postIds.get(0))).isNull();
+    }
+}
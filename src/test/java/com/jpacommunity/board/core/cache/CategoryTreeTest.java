@@ -0,0 +1,85 @@
+package com.jpacommunity.board.core.cache;
+
+import com.jpacommunity.board.api.controller.response.CategoryResponse;
+import com.jpacommunity.board.core.cache.CategoryTree.Row;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CategoryTreeTest {
+    private static final CategoryTree.Serializer IDS = roots ->
+            roots.stream().map(root -> String.valueOf(root.getId())).reduce((a, b) -> a + "," + b).orElse("")
+                    .getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    public void 형제는_orderIndex_순으로_정렬된다() throws Exception {
+        CategoryTree tree = CategoryTree.of(List.of(
+                new Row(1L, "스포츠", 2, 0, null, null, null),
+                new Row(2L, "게임", 1, 0, null, null, null),
+                new Row(3L, "야구", 2, 1, 1L, null, null),
+                new Row(4L, "축구", 1, 1, 1L, null, null),
+                new Row(5L, "K리그", 1, 2, 4L, "/k-league", null)
+        ), false, IDS);
+
+        assertThat(tree.getRoots()).extracting(CategoryResponse::getId).containsExactly(2L, 1L);
+        CategoryResponse sports = tree.find(1L).orElseThrow();
+        assertThat(sports.getChildren()).extracting(CategoryResponse::getId).containsExactly(4L, 3L);
+        assertThat(tree.find(4L).orElseThrow().getChildren()).extracting(CategoryResponse::getLink).containsExactly("/k-league");
+        assertThat(tree.getRootsWithoutChildren()).allMatch(root -> root.getChildren() == null);
+        assertThat(new String(tree.getJson(), StandardCharsets.UTF_8)).isEqualTo("2,1");
+        assertThat(tree.size()).isEqualTo(5);
+    }
+
+    @Test
+    public void 스냅샷은_수정할_수_없다() throws Exception {
+        CategoryTree tree = CategoryTree.of(List.of(new Row(1L, "스포츠", 1, 0, null, null, null)), false, IDS);
+
+        assertThrows(UnsupportedOperationException.class, () -> tree.getRoots().clear());
+        assertThrows(UnsupportedOperationException.class, () -> tree.find(1L).orElseThrow().getChildren().clear());
+    }
+
+    @Test
+    public void 부모가_없는_행은_버린다() throws Exception {
+        CategoryTree tree = CategoryTree.of(List.of(
+                new Row(1L, "스포츠", 1, 0, null, null, null),
+                new Row(2L, "고아", 1, 1, 99L, null, null)
+        ), false, IDS);
+
+        assertThat(tree.find(2L)).isEmpty();
+        assertThat(tree.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void rank_모드는_sort_rank_순이고_orderIndex_는_위치로_채운다() throws Exception {
+        CategoryTree tree = CategoryTree.of(List.of(
+                new Row(1L, "축구", 1, 0, null, null, 98304L),
+                new Row(2L, "농구", 2, 0, null, null, 65536L),
+                new Row(3L, "야구", 3, 0, null, null, null)
+        ), true, IDS);
+
+        assertThat(tree.getRoots()).extracting(CategoryResponse::getId).containsExactly(2L, 1L, 3L);
+        assertThat(tree.getRoots()).extracting(CategoryResponse::getOrderIndex).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    public void ETag_는_본문으로_정해진다() throws Exception {
+        List<Row> rows = List.of(
+                new Row(1L, "스포츠", 1, 0, null, null, null),
+                new Row(2L, "음악", 2, 0, null, null, null)
+        );
+        CategoryTree tree = CategoryTree.of(rows, false, IDS);
+        CategoryTree rebuilt = CategoryTree.of(List.of(rows.get(1), rows.get(0)), false, IDS);
+        CategoryTree reordered = CategoryTree.of(List.of(
+                new Row(1L, "스포츠", 2, 0, null, null, null),
+                new Row(2L, "음악", 1, 0, null, null, null)
+        ), false, IDS);
+
+        // 다시 만들어도 본문이 같으면 같은 ETag (재시작, 다른 인스턴스, 스케줄 갱신)
+        assertThat(rebuilt.getEtag()).isEqualTo(tree.getEtag());
+        assertThat(reordered.getEtag()).isNotEqualTo(tree.getEtag());
+    }
+}
@@ -0,0 +1,67 @@
+package com.jpacommunity.board.core.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.jpacommunity.board.api.controller.response.PostDetailResponse;
+import com.jpacommunity.board.api.controller.response.PostDetailResponse.AttachmentItem;
+import com.jpacommunity.jwt.store.EmbeddedKeyValueClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostDetailCacheTest {
+    private static final PostDetailCacheProperties PROPERTIES =
+            new PostDetailCacheProperties(true, 100, Duration.ofMinutes(5), "kv", Duration.ofMinutes(30));
+
+    @Test
+    public void 한_번_읽은_게시글은_제거_전까지_다시_읽지_않는다() throws Exception {
+        PostDetailCache cache = new PostDetailCache(PROPERTIES, new StaticListableBeanFactory().getBeanProvider(PostDetailRemoteCache.class),
+                new SimpleMeterRegistry());
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(cache.get(1L, id -> load(id, loads)).title()).isEqualTo("게시글 1");
+        assertThat(cache.get(1L, id -> load(id, loads)).title()).isEqualTo("게시글 1");
+        assertThat(loads.get()).isEqualTo(1);
+
+        cache.evict(1L);
+        cache.get(1L, id -> load(id, loads));
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void 로컬_miss_는_분산_계층에서_읽는다() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        KeyValuePostDetailRemoteCache remoteCache =
+                new KeyValuePostDetailRemoteCache(new EmbeddedKeyValueClient(), objectMapper, PROPERTIES.getRemoteTtl());
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("remoteCache", remoteCache);
+
+        // 인스턴스 두 개가 분산 계층을 공유
+        PostDetailCache first = new PostDetailCache(PROPERTIES, beanFactory.getBeanProvider(PostDetailRemoteCache.class), new SimpleMeterRegistry());
+        PostDetailCache second = new PostDetailCache(PROPERTIES, beanFactory.getBeanProvider(PostDetailRemoteCache.class), new SimpleMeterRegistry());
+        AtomicInteger loads = new AtomicInteger();
+
+        PostDetailResponse loaded = first.get(1L, id -> load(id, loads));
+        PostDetailResponse shared = second.get(1L, id -> load(id, loads));
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(shared).isEqualTo(loaded);
+
+        first.evict(1L);
+        assertThat(remoteCache.get(1L)).isEmpty();
+    }
+
+    private static PostDetailResponse load(Long id, AtomicInteger loads) {
+        loads.incrementAndGet();
+        return new PostDetailResponse(id, "게시글 " + id, "내용", 1L, "축구", "종욱",
+                LocalDateTime.of(2024, 11, 1, 12, 0), LocalDateTime.of(2024, 11, 1, 12, 0),
+                List.of(new AttachmentItem(10L, "a.png", "/upload/a.png", 1024L, true)));
+    }
+}
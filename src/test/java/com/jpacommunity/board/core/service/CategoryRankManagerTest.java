@@ -0,0 +1,48 @@
+package com.jpacommunity.board.core.service;
+
+import com.jpacommunity.board.core.cache.CategoryTree.Row;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CategoryRankManagerTest {
+    private static final long GAP = 65536;
+
+    @Test
+    public void 앞뒤_형제_사이_중간값을_배정한다() throws Exception {
+        List<Row> others = rows(GAP, 2 * GAP, 3 * GAP);
+
+        assertThat(CategoryRankManager.rankAt(others, 1, GAP)).hasValue(0);
+        assertThat(CategoryRankManager.rankAt(others, 2, GAP)).hasValue(GAP + GAP / 2);
+        assertThat(CategoryRankManager.rankAt(others, 4, GAP)).hasValue(4 * GAP);
+        assertThat(CategoryRankManager.rankAt(List.of(), 1, GAP)).hasValue(GAP);
+    }
+
+    @Test
+    public void 사이에_빈_키가_없으면_재배정이_필요하다() throws Exception {
+        assertThat(CategoryRankManager.rankAt(rows(10, 11), 2, GAP)).isEqualTo(OptionalLong.empty());
+        assertThat(CategoryRankManager.rankAt(rows(10, 12), 2, GAP)).hasValue(11);
+    }
+
+    @Test
+    public void 간격이_좁거나_키가_없으면_재정렬_대상() throws Exception {
+        assertThat(CategoryRankManager.isCrowded(rows(GAP, 2 * GAP), 64)).isFalse();
+        assertThat(CategoryRankManager.isCrowded(rows(GAP, GAP + 10), 64)).isTrue();
+        assertThat(CategoryRankManager.isCrowded(List.of(row(1L, GAP), row(2L, null)), 64)).isTrue();
+    }
+
+    private static List<Row> rows(long... ranks) {
+        Row[] rows = new Row[ranks.length];
+        for (int i = 0; i < ranks.length; i++) {
+            rows[i] = row(i + 1L, ranks[i]);
+        }
+        return List.of(rows);
+    }
+
+    private static Row row(Long id, Long sortRank) {
+        return new Row(id, "카테고리 " + id, id.intValue(), 0, null, null, sortRank);
+    }
+}
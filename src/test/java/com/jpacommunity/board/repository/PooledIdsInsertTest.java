@@ -0,0 +1,121 @@
+package com.jpacommunity.board.repository;
+
+import com.jpacommunity.board.api.dto.AttachmentRequest;
+import com.jpacommunity.board.api.dto.PostCreateRequest;
+import com.jpacommunity.board.core.entity.Attachment;
+import com.jpacommunity.board.core.entity.Category;
+import com.jpacommunity.board.core.entity.Post;
+import com.jpacommunity.member.domain.GenderType;
+import com.jpacommunity.member.entity.Member;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.enhanced.PooledLoOptimizer;
+import org.hibernate.id.enhanced.TableGenerator;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlGroup;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static com.jpacommunity.member.domain.MemberRole.USER;
+import static com.jpacommunity.member.domain.MemberStatus.ACTIVE;
+import static com.jpacommunity.member.domain.MemberType.LOCAL;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * pooled-ids 프로필: ID 는 p_id_sequences 테이블 생성기(pooled-lo)에서 받고, INSERT 는 flush 시점에 테이블별 배치로 실행된다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles({"dev", "pooled-ids"})
+@Transactional
+@SqlGroup({
+        @Sql(value = "/sql/delete-all-data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD),
+        @Sql(value = "/sql/category-insert-date.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD),
+        @Sql(value = "/sql/delete-all-data.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD),
+})
+class PooledIdsInsertTest {
+    private static final int ATTACHMENTS = 20;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Member member;
+
+    @BeforeEach
+    public void init() {
+        member = entityManager.merge(Member.builder()
+                .email("net1506@naver.com")
+                .tel("01077776666")
+                .name("jongwook")
+                .password("12345")
+                .nickname("일반 계정 종욱")
+                .gender(GenderType.M)
+                .birthdate(LocalDate.of(2011, 1, 13))
+                .role(USER)
+                .type(LOCAL)
+                .status(ACTIVE)
+                .publicId(UUID.randomUUID())
+                .build());
+        entityManager.flush();
+
+        statistics = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    public void 게시글과_첨부파일_ID_는_pooled_lo_테이블_생성기에서_받는다() throws Exception {
+        assertThat(identifierGenerator(Post.class)).isInstanceOfSatisfying(TableGenerator.class,
+                generator -> assertThat(generator.getOptimizer()).isInstanceOf(PooledLoOptimizer.class));
+        assertThat(identifierGenerator(Attachment.class)).isInstanceOfSatisfying(TableGenerator.class,
+                generator -> assertThat(generator.getOptimizer()).isInstanceOf(PooledLoOptimizer.class));
+    }
+
+    @Test
+    public void 첨부파일_INSERT_는_flush_시점에_배치로_실행된다() throws Exception {
+        Category category = entityManager.getReference(Category.class, 1L);
+        Post post = new Post(new PostCreateRequest("게시글 제목", "게시글 내용", 1L), category, member);
+        entityManager.persist(post);
+
+        List<Long> attachmentIds = new ArrayList<>();
+        for (int i = 0; i < ATTACHMENTS; i++) {
+            Attachment attachment = new Attachment(AttachmentRequest.builder().filename("image-" + i + ".png").size(1024L).build());
+            attachment.updatePost(post);
+            entityManager.persist(attachment);
+            attachmentIds.add(attachment.getId());
+        }
+
+        // IDENTITY 였다면 persist 마다 INSERT 가 실행되어 ID 를 받는다
+        assertThat(post.getId()).isNotNull();
+        assertThat(attachmentIds).doesNotContainNull();
+        assertThat(statistics.getEntityInsertCount()).isZero();
+
+        long prepareBeforeFlush = statistics.getPrepareStatementCount();
+        entityManager.flush();
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1 + ATTACHMENTS);
+        // 게시글 INSERT 1개 + 첨부파일 INSERT 1개 (배치 크기 50 이하)
+        assertThat(statistics.getPrepareStatementCount() - prepareBeforeFlush).isEqualTo(2);
+    }
+
+    private IdentifierGenerator identifierGenerator(Class<?> entityClass) {
+        return entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel()
+                .getEntityDescriptor(entityClass)
+                .getIdentifierGenerator();
+    }
+}
@@ -0,0 +1,152 @@
+package com.jpacommunity.board.service;
+
+import com.jpacommunity.board.api.dto.CategoryMoveRequest;
+import com.jpacommunity.board.core.cache.CategoryTree.Row;
+import com.jpacommunity.board.core.cache.CategoryTreeCache;
+import com.jpacommunity.board.core.repository.category.CategoryQueryRepository;
+import com.jpacommunity.board.core.service.CategoryRankManager;
+import com.jpacommunity.board.core.service.CategoryService;
+import com.jpacommunity.global.exception.JpaCommunityException;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlGroup;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static com.jpacommunity.global.exception.ErrorCode.RESOURCE_CONFLICT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doReturn;
+
+/**
+ * rank 정렬 모드 (board.category-ordering.mode=rank)
+ * 픽스처의 최상위 카테고리 축구(1), 농구(2), 야구(3), 피구(26), 피구(27) 전체의 sort_rank 로 확인한다.
+ */
+@SpringBootTest(properties = "board.category-ordering.mode=rank")
+@Transactional
+@SqlGroup({
+        @Sql(value = "/sql/delete-all-data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD),
+        @Sql(value = "/sql/category-insert-date.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD),
+        @Sql(value = "/sql/delete-all-data.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD),
+})
+class CategoryRankOrderingTest {
+    private static final long GAP = 65536;
+    private static final List<Long> ROOT_IDS = List.of(1L, 2L, 3L, 26L, 27L);
+
+    @Autowired
+    CategoryService categoryService;
+
+    @Autowired
+    CategoryRankManager categoryRankManager;
+
+    @Autowired
+    CategoryTreeCache categoryTreeCache;
+
+    @SpyBean
+    CategoryQueryRepository categoryQueryRepository;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Test
+    public void 이동한_카테고리의_정렬_키만_바뀐다() throws Exception {
+        setRanks(GAP, 2 * GAP, 3 * GAP, 4 * GAP, 5 * GAP);
+
+        categoryService.move(3L, new CategoryMoveRequest(2));
+
+        assertThat(rootRows()).extracting(Row::id).containsExactly(1L, 3L, 2L, 26L, 27L);
+        assertThat(rootRows()).extracting(Row::sortRank).containsExactly(GAP, GAP + GAP / 2, 2 * GAP, 4 * GAP, 5 * GAP);
+    }
+
+    @Test
+    public void 정렬_키가_없으면_현재_순서대로_배정한_뒤_이동한다() throws Exception {
+        // 키가 없으면 order_index, id 순: 축구(1), 피구(26, 1), 피구(27, 1), 농구(2), 야구(3)
+        categoryService.move(3L, new CategoryMoveRequest(1));
+
+        assertThat(rootRows()).extracting(Row::id).containsExactly(3L, 1L, 26L, 27L, 2L);
+        assertThat(rootRows()).extracting(Row::sortRank).containsExactly(0L, GAP, 2 * GAP, 3 * GAP, 4 * GAP);
+    }
+
+    @Test
+    public void 앞뒤_키_사이가_비어있지_않으면_형제를_다시_배정한_뒤_이동한다() throws Exception {
+        setRanks(10, 11, GAP, 2 * GAP, 3 * GAP);
+
+        categoryService.move(3L, new CategoryMoveRequest(2));
+
+        assertThat(rootRows()).extracting(Row::id).containsExactly(1L, 3L, 2L, 26L, 27L);
+        assertThat(rootRows()).extracting(Row::sortRank).containsExactly(GAP, GAP + GAP / 2, 2 * GAP, 4 * GAP, 5 * GAP);
+    }
+
+    @Test
+    public void 간격이_좁아진_형제는_순서를_유지한_채_다시_배정된다() throws Exception {
+        setRanks(30, 10, 20, 40, 50);
+
+        categoryRankManager.rebalanceCrowded();
+
+        assertThat(rootRows()).extracting(Row::id).containsExactly(2L, 3L, 1L, 26L, 27L);
+        assertThat(rootRows()).extracting(Row::sortRank).containsExactly(GAP, 2 * GAP, 3 * GAP, 4 * GAP, 5 * GAP);
+    }
+
+    @Test
+    public void 같은_정렬_키로_동시에_이동하면_RESOURCE_CONFLICT() throws Exception {
+        entityManager.createNativeQuery("INSERT INTO p_categories (id, name, depth, parent_id, order_index) VALUES (100, '배구', 0, NULL, 4)")
+                .executeUpdate();
+        setRanks(GAP, 2 * GAP, 3 * GAP, 4 * GAP, 5 * GAP);
+        categoryQueryRepository.updateSortRank(100L, 6 * GAP);
+        List<Row> before = rootRows();
+        // 재배정 없이 중간값 하나만 쓰도록 모든 형제에 키가 있어야 한다
+        assertThat(before).extracting(Row::sortRank).doesNotContainNull();
+
+        // 먼저 커밋된 요청이 야구를 2번째로 옮겼다
+        categoryQueryRepository.updateSortRank(3L, GAP + GAP / 2);
+
+        // 나중 요청은 이동 전 형제 목록으로 배구를 2번째 (같은 키) 로 옮긴다
+        doReturn(before).when(categoryQueryRepository).findSiblingRows(null);
+        JpaCommunityException exception = assertThrows(JpaCommunityException.class,
+                () -> categoryService.move(100L, new CategoryMoveRequest(2)));
+
+        assertThat(exception.getErrorCode()).isEqualTo(RESOURCE_CONFLICT);
+    }
+
+    @Test
+    public void order_index_가_없는_카테고리도_이동하고_삭제할_수_있다() throws Exception {
+        entityManager.createNativeQuery("INSERT INTO p_categories (id, name, depth, parent_id, order_index) VALUES (100, '배구', 0, NULL, NULL)")
+                .executeUpdate();
+        setRanks(GAP, 2 * GAP, 3 * GAP, 4 * GAP, 5 * GAP);
+        categoryQueryRepository.updateSortRank(100L, 6 * GAP);
+
+        categoryService.move(100L, new CategoryMoveRequest(1));
+        assertThat(rootRows()).extracting(Row::id).containsExactly(100L, 1L, 2L, 3L, 26L, 27L);
+
+        categoryService.delete(100L);
+        assertThat(rootRows()).extracting(Row::id).containsExactly(1L, 2L, 3L, 26L, 27L);
+    }
+
+    @Test
+    public void 단건_조회는_트리_스냅샷의_위치를_순번으로_내려준다() throws Exception {
+        setRanks(2 * GAP, 3 * GAP, GAP, 4 * GAP, 5 * GAP);
+        categoryTreeCache.refresh();
+
+        assertThat(categoryService.getById(3L).getOrderIndex()).isEqualTo(1);
+        assertThat(categoryService.getById(1L).getOrderIndex()).isEqualTo(2);
+        assertThat(categoryService.getById(27L).getOrderIndex()).isEqualTo(5);
+        assertThat(categoryService.getById(1L).getChildren()).extracting("id").containsExactly(4L, 5L, 6L);
+    }
+
+    // 최상위 카테고리 1, 2, 3, 26, 27 의 정렬 키 (ROOT_IDS 순)
+    private void setRanks(long... ranks) {
+        categoryQueryRepository.clearSortRanks(null);
+        for (int i = 0; i < ROOT_IDS.size(); i++) {
+            categoryQueryRepository.updateSortRank(ROOT_IDS.get(i), ranks[i]);
+        }
+    }
+
+    private List<Row> rootRows() {
+        return categoryQueryRepository.findSiblingRows(null);
+    }
+}
@@ -2,6 +2,7 @@ package com.jpacommunity.board.service;
 
 import com.jpacommunity.board.api.controller.response.CategoryResponse;
 import com.jpacommunity.board.api.dto.CategoryCreateRequest;
+import com.jpacommunity.board.api.dto.CategoryMoveRequest;
 import com.jpacommunity.board.api.dto.CategoryUpdateRequest;
 import com.jpacommunity.board.core.entity.Category;
 import com.jpacommunity.board.core.repository.category.CategoryRepository;
@@ -20,6 +21,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.jdbc.SqlGroup;
 
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -175,6 +177,48 @@ class CategoryServiceTest {
         assertThat(deleteResponse.getId()).isEqualTo(deleteId);
     }
 
+    @Test
+    @DisplayName("카테고리를 앞으로 이동하면 사이의 형제가 한 칸씩 밀린다")
+    public void move_test_1() throws Exception {
+        // given: 축구 > 커뮤니티 하위 '사건 사고'(21, 5번) 를 2번으로
+        Long moveId = 21L;
+
+        // when
+        CategoryResponse moveResponse = categoryService.move(moveId, new CategoryMoveRequest(2));
+
+        // then
+        assertThat(moveResponse.getOrderIndex()).isEqualTo(2);
+        List<CategoryResponse> children = categoryService.getWithSortedChildrenById(5L).getChildren();
+        assertThat(children).extracting(CategoryResponse::getId).containsExactly(17L, 21L, 18L, 19L, 20L, 22L, 23L);
+        for (int i = 0; i < children.size(); i++) {
+            assertThat(children.get(i).getOrderIndex()).isEqualTo(i + 1);
+        }
+    }
+
+    @Test
+    @DisplayName("카테고리를 뒤로 이동하면 사이의 형제가 한 칸씩 당겨진다")
+    public void move_test_2() throws Exception {
+        // given: 최상위 '축구'(1, 1번) 를 3번으로
+        Long moveId = 1L;
+
+        // when
+        categoryService.move(moveId, new CategoryMoveRequest(3));
+
+        // then: 픽스처의 다른 최상위 카테고리(26, 27 '피구', 1번)는 이동 구간 밖이라 제외하고 비교
+        List<Category> roots = categoryRepository.findByParentIsNull();
+        roots.sort(Comparator.comparing(Category::getOrderIndex));
+        assertThat(roots).extracting(Category::getId)
+                .filteredOn(id -> id <= 3L)
+                .containsExactly(2L, 3L, 1L);
+    }
+
+    @Test
+    @DisplayName("형제 수보다 큰 순번으로는 이동할 수 없다")
+    public void move_test_3() throws Exception {
+        JpaCommunityException exception = assertThrows(JpaCommunityException.class, () -> categoryService.move(24L, new CategoryMoveRequest(3)));
+        assertThat(exception.getErrorCode()).isEqualTo(INVALID_PARAMETER);
+    }
+
     // END 는 자동 완성 후 커서 위치
     @Test
     @DisplayName("존재하지 않는 카테고리를 수정하는 경우 에러를 발생시킨다.")
@@ -0,0 +1,104 @@
+package com.jpacommunity.global.ratelimit;
+
+import com.jpacommunity.jwt.store.EmbeddedKeyValueClient;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoginThrottleTest {
+    private static final LoginThrottleProperties PROPERTIES = new LoginThrottleProperties(
+            true, Duration.ofMinutes(1), 10, 3, Duration.ofSeconds(30), Duration.ofMinutes(2), Duration.ofHours(1));
+
+    @Test
+    public void 메모리_저장소_계정_한도를_넘으면_차단하고_차단_시간은_두_배씩_늘어난다() throws Exception {
+        verifyExponentialLockout(new InMemoryCounterStore());
+    }
+
+    @Test
+    public void 키값_저장소_계정_한도를_넘으면_차단하고_차단_시간은_두_배씩_늘어난다() throws Exception {
+        verifyExponentialLockout(new KeyValueCounterStore(new EmbeddedKeyValueClient()));
+    }
+
+    @Test
+    public void 로그인에_성공하면_계정_카운터가_초기화된다() throws Exception {
+        MutableClock clock = new MutableClock(Instant.parse("2024-11-01T00:00:00Z"));
+        LoginThrottle loginThrottle = new LoginThrottle(PROPERTIES, new InMemoryCounterStore(), clock);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(loginThrottle.tryAcquireUsername("net1506@naver.com")).isZero();
+        }
+        loginThrottle.reset("NET1506@naver.com");
+
+        assertThat(loginThrottle.tryAcquireUsername("net1506@naver.com")).isZero();
+    }
+
+    @Test
+    public void 직전_윈도_시도는_겹치는_비율만큼_반영된다() throws Exception {
+        MutableClock clock = new MutableClock(Instant.parse("2024-11-01T00:00:00Z"));
+        LoginThrottle loginThrottle = new LoginThrottle(PROPERTIES, new InMemoryCounterStore(), clock);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(loginThrottle.tryAcquireIp("10.0.0.1")).isZero();
+        }
+
+        // 다음 윈도의 절반 지점: 직전 10회 * 0.5 + 현재 5회 = 10
+        clock.advance(Duration.ofSeconds(90));
+        for (int i = 0; i < 5; i++) {
+            assertThat(loginThrottle.tryAcquireIp("10.0.0.1")).isZero();
+        }
+        assertThat(loginThrottle.tryAcquireIp("10.0.0.1")).isPositive();
+        assertThat(loginThrottle.tryAcquireIp("10.0.0.2")).isZero();
+    }
+
+    private void verifyExponentialLockout(CounterStore counterStore) {
+        MutableClock clock = new MutableClock(Instant.parse("2024-11-01T00:00:00Z"));
+        LoginThrottle loginThrottle = new LoginThrottle(PROPERTIES, counterStore, clock);
+        String username = "net1506@naver.com";
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(loginThrottle.tryAcquireUsername(username)).isZero();
+        }
+        assertThat(loginThrottle.tryAcquireUsername(username)).isEqualTo(30);
+        assertThat(loginThrottle.tryAcquireUsername(username)).isBetween(1L, 30L);
+
+        // 차단 해제 직후 다시 한도 초과: 60초 차단
+        clock.advance(Duration.ofSeconds(31));
+        assertThat(loginThrottle.tryAcquireUsername(username)).isEqualTo(60);
+
+        assertThat(loginThrottle.lockoutFor(3)).isEqualTo(Duration.ofMinutes(2));
+        assertThat(loginThrottle.lockoutFor(10)).isEqualTo(Duration.ofMinutes(2));
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.jpacommunity.global.ratelimit;
+
+import com.jpacommunity.global.exception.JpaCommunityException;
+import com.jpacommunity.global.validation.aop.RateLimitAdvice;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static com.jpacommunity.global.exception.ErrorCode.TOO_MANY_REQUESTS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RateLimitedTest {
+
+    @Test
+    public void 샤드당_최대_키_수를_넘으면_오래된_키부터_제거된다() throws Exception {
+        Clock clock = Clock.fixed(Instant.parse("2024-11-01T00:00:00Z"), ZoneOffset.UTC);
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(4, 8, clock);
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(limiter.tryAcquire("key:" + i, 1, 60_000)).isZero();
+        }
+
+        assertThat(limiter.size()).isLessThanOrEqualTo(4 * 8);
+        assertThat(limiter.tryAcquire("key:999", 1, 60_000)).isEqualTo(60_000);
+    }
+
+    @Test
+    public void SpEL_키별로_제한하고_거부_횟수를_기록한다() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new SampleEndpoint());
+        proxyFactory.addAspect(new RateLimitAdvice(new RateLimitedProperties(true, 4, 128), meterRegistry));
+        SampleEndpoint endpoint = proxyFactory.getProxy();
+
+        assertThat(endpoint.exists("a@naver.com")).isTrue();
+        assertThat(endpoint.exists("a@naver.com")).isTrue();
+        assertThatThrownBy(() -> endpoint.exists("a@naver.com"))
+                .isInstanceOf(JpaCommunityException.class)
+                .satisfies(e -> assertThat(((JpaCommunityException) e).getErrorCode()).isEqualTo(TOO_MANY_REQUESTS));
+        assertThat(endpoint.exists("b@naver.com")).isTrue();
+
+        assertThat(meterRegistry.get("rate.limit.rejected").tag("endpoint", "sample.exists").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void 반복_선언한_제한은_모두_적용된다() throws Exception {
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new SampleEndpoint());
+        proxyFactory.addAspect(new RateLimitAdvice(new RateLimitedProperties(true, 4, 128), new SimpleMeterRegistry()));
+        SampleEndpoint endpoint = proxyFactory.getProxy();
+
+        // 이메일 기준 2회
+        assertThat(endpoint.send("a@naver.com")).isTrue();
+        assertThat(endpoint.send("a@naver.com")).isTrue();
+        assertThatThrownBy(() -> endpoint.send("a@naver.com")).isInstanceOf(JpaCommunityException.class);
+
+        // 거부된 호출도 IP 기준 횟수는 차지한다. 다른 이메일이어도 IP(요청 밖에서는 unknown) 기준 4회를 넘으면 거부
+        assertThat(endpoint.send("b@naver.com")).isTrue();
+        assertThatThrownBy(() -> endpoint.send("c@naver.com")).isInstanceOf(JpaCommunityException.class);
+    }
+
+    static class SampleEndpoint {
+        @RateLimited(key = RateLimited.IP, permits = 4, window = "1h", name = "sample.send")
+        @RateLimited(key = "#email", permits = 2, window = "1h", name = "sample.send")
+        public boolean send(String email) {
+            return true;
+        }
+
+        @RateLimited(key = "#email", permits = 2, window = "1h", name = "sample.exists")
+        public boolean exists(String email) {
+            return true;
+        }
+    }
+}
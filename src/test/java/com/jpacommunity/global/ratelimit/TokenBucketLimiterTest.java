@@ -0,0 +1,114 @@
+package com.jpacommunity.global.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenBucketLimiterTest {
+
+    @Test
+    public void 버킷이_비면_거부하고_시간이_지나면_충전된다() throws Exception {
+        MutableClock clock = new MutableClock(Instant.parse("2024-11-01T00:00:00Z"));
+        TokenBucketLimiter limiter = new TokenBucketLimiter(clock, Duration.ofMinutes(10));
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire("member:1", 5, Duration.ofMinutes(1))).isZero();
+        }
+        // 토큰 1개 충전까지 12초
+        assertThat(limiter.tryAcquire("member:1", 5, Duration.ofMinutes(1))).isEqualTo(12_000);
+        assertThat(limiter.tryAcquire("member:2", 5, Duration.ofMinutes(1))).isZero();
+
+        clock.advance(Duration.ofSeconds(12));
+        assertThat(limiter.tryAcquire("member:1", 5, Duration.ofMinutes(1))).isZero();
+        assertThat(limiter.tryAcquire("member:1", 5, Duration.ofMinutes(1))).isPositive();
+
+        clock.advance(Duration.ofHours(1));
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire("member:1", 5, Duration.ofMinutes(1))).isZero();
+        }
+        assertThat(limiter.tryAcquire("member:1", 5, Duration.ofMinutes(1))).isPositive();
+    }
+
+    @Test
+    public void 사용되지_않은_버킷은_제거된다() throws Exception {
+        MutableClock clock = new MutableClock(Instant.parse("2024-11-01T00:00:00Z"));
+        TokenBucketLimiter limiter = new TokenBucketLimiter(clock, Duration.ofMinutes(10));
+
+        limiter.tryAcquire("member:1", 5, Duration.ofMinutes(1));
+        clock.advance(Duration.ofMinutes(5));
+        limiter.tryAcquire("member:2", 5, Duration.ofMinutes(1));
+
+        clock.advance(Duration.ofMinutes(6));
+        limiter.evictIdle();
+
+        assertThat(limiter.size()).isEqualTo(1);
+        assertThatThrownBy(() -> limiter.tryAcquire("member:3", TokenBucketLimiter.MAX_CAPACITY + 1, Duration.ofMinutes(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void 동시에_요청해도_버킷_크기만큼만_허용된다() throws Exception {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(Clock.systemUTC(), Duration.ofMinutes(10));
+        int threads = 16;
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger allowed = new AtomicInteger();
+
+        for (int i = 0; i < threads; i++) {
+            executorService.submit(() -> {
+                start.await();
+                for (int j = 0; j < 100; j++) {
+                    if (limiter.tryAcquire("ip:127.0.0.1", 50, Duration.ofHours(1)) == 0) {
+                        allowed.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executorService.shutdown();
+        assertThat(executorService.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // 1시간에 50개 충전이므로 테스트 시간 동안 추가 충전은 최대 1개
+        assertThat(allowed.get()).isBetween(50, 51);
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
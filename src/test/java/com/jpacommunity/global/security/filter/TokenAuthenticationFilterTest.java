@@ -2,8 +2,14 @@ package com.jpacommunity.global.security.filter;
 
 import com.jpacommunity.member.domain.MemberRole;
 import com.jpacommunity.member.domain.MemberStatus;
+import com.jpacommunity.security.dto.TokenPrincipal;
 import org.junit.jupiter.api.Test;
 
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
 class TokenAuthenticationFilterTest {
 
     // END 는 자동 완성 후 커서 위치
@@ -24,4 +30,21 @@ class TokenAuthenticationFilterTest {
         System.out.println(memberStatus.name());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void tokenPrincipal_공유_권한() throws Exception {
+        TokenPrincipal first = TokenPrincipal.of(UUID.randomUUID(), "ADMIN", "ACTIVE");
+        TokenPrincipal second = TokenPrincipal.of(UUID.randomUUID(), "ADMIN", "ACTIVE");
+
+        assertThat(first.getAuthorities()).isSameAs(second.getAuthorities());
+        assertThat(first.getAuthorities()).extracting("authority").containsExactly("ADMIN");
+        assertThat(first.getStatus()).isEqualTo("ACTIVE");
+    }
+
+    @Test
+    public void tokenPrincipal_잘못된_클레임() throws Exception {
+        assertThatThrownBy(() -> TokenPrincipal.of(UUID.randomUUID(), "GUEST", "ACTIVE"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TokenPrincipal.of(UUID.randomUUID(), "USER", "DELETED"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,108 @@
+package com.jpacommunity.global.version;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResourceVersionInterceptorTest {
+    private static final String ETAG = ResourceVersions.etagOf("[1,2,3]".getBytes(StandardCharsets.UTF_8));
+
+    private final ResourceVersions resourceVersions = new ResourceVersions();
+    private final ResourceVersionInterceptor interceptor = new ResourceVersionInterceptor(resourceVersions);
+
+    @Test
+    public void 같은_내용은_같은_ETag_다른_내용은_다른_ETag() throws Exception {
+        assertThat(ResourceVersions.etagOf("[1,2,3]".getBytes(StandardCharsets.UTF_8))).isEqualTo(ETAG);
+        assertThat(ResourceVersions.etagOf("[1,3,2]".getBytes(StandardCharsets.UTF_8))).isNotEqualTo(ETAG);
+        assertThat(ETAG).startsWith("\"").endsWith("\"");
+    }
+
+    @Test
+    public void ETag_가_일치하지_않으면_컨트롤러를_호출한다() throws Exception {
+        resourceVersions.update("sample", ETAG);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean proceed = interceptor.preHandle(get("\"other\""), response, handler("versioned"));
+
+        assertThat(proceed).isTrue();
+        assertThat(response.getStatus()).isEqualTo(200);
+        // 200 응답의 ETag 는 컨트롤러가 내려주는 스냅샷에서 붙인다
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("no-cache");
+    }
+
+    @Test
+    public void 같은_ETag_로_다시_요청하면_컨트롤러를_호출하지_않고_304() throws Exception {
+        resourceVersions.update("sample", ETAG);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean proceed = interceptor.preHandle(get(ETAG), response, handler("versioned"));
+
+        assertThat(proceed).isFalse();
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(ETAG);
+    }
+
+    @Test
+    public void 내용이_바뀌면_이전_ETag_는_200() throws Exception {
+        resourceVersions.update("sample", ETAG);
+        resourceVersions.update("sample", ResourceVersions.etagOf("[1,3,2]".getBytes(StandardCharsets.UTF_8)));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean proceed = interceptor.preHandle(get(ETAG), response, handler("versioned"));
+
+        assertThat(proceed).isTrue();
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    public void 스냅샷이_만들어지기_전에는_304_를_내리지_않는다() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean proceed = interceptor.preHandle(get("*"), response, handler("versioned"));
+
+        assertThat(proceed).isTrue();
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    public void 애너테이션이_없으면_처리하지_않는다() throws Exception {
+        resourceVersions.update("sample", ETAG);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean proceed = interceptor.preHandle(get(ETAG), response, handler("plain"));
+
+        assertThat(proceed).isTrue();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isNull();
+    }
+
+    private static MockHttpServletRequest get(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/sample");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return request;
+    }
+
+    private static HandlerMethod handler(String methodName) throws NoSuchMethodException {
+        return new HandlerMethod(new SampleController(), SampleController.class.getMethod(methodName));
+    }
+
+    static class SampleController {
+        @VersionedResource("sample")
+        public String versioned() {
+            return "versioned";
+        }
+
+        public String plain() {
+            return "plain";
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.jpacommunity.jwt.bloom;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    @Test
+    public void 추가한_원소는_항상_포함되고_오탐률은_목표_근처다() throws Exception {
+        int entries = 100_000;
+        double fpp = 0.01;
+        long[] values = ThreadLocalRandom.current().longs(entries * 2L).toArray();
+        BloomFilter bloomFilter = BloomFilter.create(entries, fpp);
+
+        for (int i = 0; i < entries; i++) {
+            bloomFilter.put(values[i * 2], values[i * 2 + 1] | 1L);
+        }
+
+        for (int i = 0; i < entries; i++) {
+            assertThat(bloomFilter.mightContain(values[i * 2], values[i * 2 + 1] | 1L)).isTrue();
+        }
+
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (int i = 0; i < probes; i++) {
+            if (bloomFilter.mightContain(ThreadLocalRandom.current().nextLong(), ThreadLocalRandom.current().nextLong() | 1L)) {
+                falsePositives++;
+            }
+        }
+
+        assertThat((double) falsePositives / probes).isLessThan(fpp * 2);
+        assertThat(bloomFilter.expectedFpp()).isLessThan(fpp * 1.5);
+        assertThat(bloomFilter.memoryBytes()).isLessThan(entries * 2L); // 원소당 약 1.2 byte
+    }
+}
@@ -39,4 +39,14 @@ INSERT INTO p_categories (id, name, depth, parent_id, order_index) VALUES (25, '
 
 
 INSERT INTO p_categories (id, name, depth, parent_id, order_index) VALUES (26, '피구', 0, NULL, 1);
-INSERT INTO p_categories (id, name, depth, parent_id, order_index) VALUES (27, '피구', 0, NULL, 1);
\ No newline at end of file
+INSERT INTO p_categories (id, name, depth, parent_id, order_index) VALUES (27, '피구', 0, NULL, 1);
+-- 클로저 테이블 (sql/category_closure.sql 과 동일)
+INSERT INTO p_category_closures (ancestor_id, descendant_id, depth)
+WITH RECURSIVE closure (ancestor_id, descendant_id, depth) AS (
+    SELECT id, id, 0 FROM p_categories
+    UNION ALL
+    SELECT closure.ancestor_id, c.id, closure.depth + 1
+    FROM closure
+    JOIN p_categories c ON c.parent_id = closure.descendant_id
+)
+SELECT ancestor_id, descendant_id, depth FROM closure;
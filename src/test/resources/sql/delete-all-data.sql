@@ -6,6 +6,7 @@ TRUNCATE TABLE p_categories;
 TRUNCATE TABLE p_members;
 TRUNCATE TABLE p_posts;
 TRUNCATE TABLE p_attachments;
+TRUNCATE TABLE p_category_closures;
 
 -- 3. 외래 키 제약 조건 활성화
 SET FOREIGN_KEY_CHECKS = 1;
\ No newline at end of file